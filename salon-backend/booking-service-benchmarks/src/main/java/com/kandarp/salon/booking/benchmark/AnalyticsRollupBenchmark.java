@@ -0,0 +1,100 @@
+package com.kandarp.salon.booking.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kandarp.salon.booking.repository.DailyBookingStatsProjection;
+import com.kandarp.salon.booking.service.report.BookingBucketRollup;
+import com.kandarp.salon.shared.booking.constant.ReportBucket;
+import com.kandarp.salon.shared.booking.dto.BookingBucketDto;
+
+/**
+ * Rolling the per-day totals returned by the database up into the buckets
+ * of the analytics endpoint, for a month, a year and ten years of days.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalyticsRollupBenchmark {
+
+	@Param({ "31", "365", "3650" })
+	public int days;
+
+	@Param({ "DAY", "WEEK", "MONTH" })
+	public ReportBucket bucket;
+
+	private Map<LocalDate, DailyStats> dailyStats;
+	private LocalDate from;
+	private LocalDate to;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		from = BookingDataGenerator.FIRST_DAY;
+		to = from.plusDays(days - 1L);
+		dailyStats = new HashMap<>();
+		for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+			// Salons are closed on some days, which have no row
+			if (random.nextInt(7) == 0) {
+				continue;
+			}
+			long bookings = 10 + random.nextInt(20);
+			dailyStats.put(day, new DailyStats(day, bookings, BigDecimal.valueOf(bookings * 60),
+					(long) random.nextInt(4), bookings * 55));
+		}
+	}
+
+	@Benchmark
+	public List<BookingBucketDto> rollUpDailyStats() {
+		return BookingBucketRollup.rollUp(dailyStats, from, to, bucket, 600);
+	}
+
+	private record DailyStats(LocalDate day, Long bookings, BigDecimal confirmedRevenue, Long cancellations,
+			Long bookedMinutes) implements DailyBookingStatsProjection {
+
+		@Override
+		public LocalDate getDay() {
+			return day;
+		}
+
+		@Override
+		public Long getBookings() {
+			return bookings;
+		}
+
+		@Override
+		public BigDecimal getConfirmedRevenue() {
+			return confirmedRevenue;
+		}
+
+		@Override
+		public Long getCancellations() {
+			return cancellations;
+		}
+
+		@Override
+		public Long getBookedMinutes() {
+			return bookedMinutes;
+		}
+	}
+}
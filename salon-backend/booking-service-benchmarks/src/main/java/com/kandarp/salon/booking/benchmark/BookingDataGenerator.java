@@ -0,0 +1,94 @@
+package com.kandarp.salon.booking.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+
+/**
+ * Generates the booking history of one salon: a few chairs open from 09:00
+ * to 19:00, services of 30 to 120 minutes on a 15 minute grid, list prices
+ * and a status mix close to production. A fixed seed keeps runs comparable.
+ */
+final class BookingDataGenerator {
+
+	static final long SALON_ID = 1L;
+	static final int CAPACITY = 3;
+	static final LocalTime OPEN_TIME = LocalTime.of(9, 0);
+	static final LocalTime CLOSE_TIME = LocalTime.of(19, 0);
+	static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+	private static final int[] DURATIONS = { 30, 45, 60, 60, 90, 120 };
+	private static final int[] PRICES = { 25, 40, 55, 70, 95, 150 };
+
+	private final Random random = new Random(42);
+
+	/**
+	 * Bookings filling every chair for the whole day, day after day from
+	 * {@link #FIRST_DAY} until {@code count} bookings exist.
+	 */
+	List<Booking> history(int count) {
+		List<Booking> bookings = new ArrayList<>(count);
+		LocalDate day = FIRST_DAY;
+		while (bookings.size() < count) {
+			for (int chair = 0; chair < CAPACITY && bookings.size() < count; chair++) {
+				LocalDateTime cursor = day.atTime(OPEN_TIME).plusMinutes(15L * random.nextInt(4));
+				LocalDateTime close = day.atTime(CLOSE_TIME);
+				while (bookings.size() < count) {
+					int service = random.nextInt(DURATIONS.length);
+					LocalDateTime end = cursor.plusMinutes(DURATIONS[service]);
+					if (end.isAfter(close)) {
+						break;
+					}
+					bookings.add(booking(bookings.size() + 1L, cursor, end, PRICES[service]));
+					cursor = end.plusMinutes(15L * random.nextInt(3));
+				}
+			}
+			day = day.plusDays(1);
+		}
+		return bookings;
+	}
+
+	/**
+	 * A booking request as a customer would send it, somewhere in the salon's
+	 * opening hours of the given day.
+	 */
+	LocalDateTime requestedStart(LocalDate day) {
+		return day.atTime(OPEN_TIME).plusMinutes(15L * random.nextInt(36));
+	}
+
+	private Booking booking(long id, LocalDateTime start, LocalDateTime end, int price) {
+		Booking booking = new Booking();
+		booking.setId(id);
+		booking.setSalonId(SALON_ID);
+		booking.setCustomerUserId("customer-" + random.nextInt(5_000));
+		booking.setStartTime(start);
+		booking.setEndTime(end);
+		booking.setServiceIds(Set.of(1L + random.nextInt(20)));
+		booking.setTotalPrice(BigDecimal.valueOf(price));
+		booking.setStatus(status());
+		booking.setCreatedAt(start.minusDays(1 + random.nextInt(14)));
+		return booking;
+	}
+
+	private BookingStatus status() {
+		int roll = random.nextInt(100);
+		if (roll < 72) {
+			return BookingStatus.CONFIRMED;
+		}
+		if (roll < 82) {
+			return BookingStatus.PENDING;
+		}
+		if (roll < 94) {
+			return BookingStatus.CANCELLED;
+		}
+		return BookingStatus.EXPIRED;
+	}
+}
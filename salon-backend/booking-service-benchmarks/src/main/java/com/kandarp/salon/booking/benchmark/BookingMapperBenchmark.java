@@ -0,0 +1,58 @@
+package com.kandarp.salon.booking.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.booking.mapper.BookingMapper;
+import com.kandarp.salon.booking.mapper.BookingMapperImpl;
+import com.kandarp.salon.shared.booking.dto.BookingRequestDto;
+import com.kandarp.salon.shared.booking.dto.BookingResponseDto;
+import com.kandarp.salon.shared.payment.constant.PaymentMethod;
+
+/**
+ * The generated BookingMapper, which runs once per booking on every list
+ * and page endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingMapperBenchmark {
+
+	private final BookingMapper bookingMapper = new BookingMapperImpl();
+
+	private Booking booking;
+	private BookingRequestDto requestDto;
+
+	@Setup
+	public void setUp() {
+		booking = new BookingDataGenerator().history(1).get(0);
+		requestDto = new BookingRequestDto(LocalDateTime.of(2025, 6, 2, 10, 30), Set.of(3L, 7L, 12L),
+				PaymentMethod.STRIPE);
+	}
+
+	@Benchmark
+	public BookingResponseDto toDto() {
+		return bookingMapper.toDTO(booking);
+	}
+
+	@Benchmark
+	public Booking toEntity() {
+		return bookingMapper.toEntity(requestDto);
+	}
+}
@@ -0,0 +1,60 @@
+package com.kandarp.salon.booking.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+import com.kandarp.salon.shared.booking.dto.SalonBookingReportDto;
+
+/**
+ * The salon report as getSalonBookingReport computed it before the
+ * salon_booking_stats table, by aggregating the whole booking history in
+ * memory. Kept as the reference the running totals are measured against.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReportAggregationBenchmark {
+
+	@Param({ "100", "10000", "1000000" })
+	public int existingBookings;
+
+	private List<Booking> history;
+
+	@Setup
+	public void setUp() {
+		history = new BookingDataGenerator().history(existingBookings);
+	}
+
+	@Benchmark
+	public SalonBookingReportDto aggregateBookingHistory() {
+		BigDecimal earnings = BigDecimal.ZERO;
+		BigDecimal refund = BigDecimal.ZERO;
+		long cancelled = 0;
+		for (Booking booking : history) {
+			earnings = earnings.add(booking.getTotalPrice());
+			if (booking.getStatus() == BookingStatus.CANCELLED) {
+				refund = refund.add(booking.getTotalPrice());
+				cancelled++;
+			}
+		}
+		return new SalonBookingReportDto(earnings, (long) history.size(), cancelled, refund);
+	}
+}
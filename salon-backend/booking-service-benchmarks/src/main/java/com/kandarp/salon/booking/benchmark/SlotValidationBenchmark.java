@@ -0,0 +1,109 @@
+package com.kandarp.salon.booking.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.booking.service.slot.SalonDaySlots;
+
+/**
+ * Slot validation against a salon's booking history. The scan is how
+ * validateTimeSlot worked before the day index: every booking of the salon
+ * was checked. The index only holds the requested day, so its cost should not
+ * move with the history size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SlotValidationBenchmark {
+
+	private static final int REQUESTS = 1024;
+	private static final Duration REQUESTED_DURATION = Duration.ofMinutes(60);
+	private static final Duration SLOT_GRANULARITY = Duration.ofMinutes(15);
+
+	@Param({ "100", "10000", "1000000" })
+	public int existingBookings;
+
+	private List<Booking> history;
+	private List<Booking> dayBookings;
+	private SalonDaySlots daySlots;
+	private LocalDate day;
+	private LocalDateTime[] requestedStarts;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		BookingDataGenerator generator = new BookingDataGenerator();
+		history = generator.history(existingBookings);
+		day = history.get(history.size() / 2).getStartTime().toLocalDate();
+		dayBookings = history.stream().filter(booking -> booking.getStartTime().toLocalDate().equals(day)).toList();
+		daySlots = loadDay();
+
+		requestedStarts = new LocalDateTime[REQUESTS];
+		for (int i = 0; i < REQUESTS; i++) {
+			requestedStarts[i] = generator.requestedStart(day);
+		}
+	}
+
+	@Benchmark
+	public boolean scanSalonHistory() {
+		LocalDateTime startTime = nextStart();
+		LocalDateTime endTime = startTime.plus(REQUESTED_DURATION);
+		for (Booking existing : history) {
+			if ((startTime.isBefore(existing.getEndTime()) && endTime.isAfter(existing.getStartTime()))
+					|| startTime.equals(existing.getStartTime()) || endTime.equals(existing.getEndTime())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Benchmark
+	public boolean checkIndexedDay() {
+		LocalDateTime startTime = nextStart();
+		return daySlots.fits(startTime, startTime.plus(REQUESTED_DURATION), BookingDataGenerator.CAPACITY);
+	}
+
+	@Benchmark
+	public SalonDaySlots loadIndexedDay() {
+		return loadDay();
+	}
+
+	@Benchmark
+	public List<LocalDateTime> listAvailableStartTimes() {
+		return daySlots.freeStartTimes(day.atTime(BookingDataGenerator.OPEN_TIME),
+				day.atTime(BookingDataGenerator.CLOSE_TIME), REQUESTED_DURATION, SLOT_GRANULARITY,
+				BookingDataGenerator.CAPACITY);
+	}
+
+	private SalonDaySlots loadDay() {
+		SalonDaySlots slots = new SalonDaySlots(day, 0);
+		for (Booking booking : dayBookings) {
+			slots.add(booking.getId(), booking.getStartTime(), booking.getEndTime());
+		}
+		return slots;
+	}
+
+	private LocalDateTime nextStart() {
+		next = (next + 1) & (REQUESTS - 1);
+		return requestedStarts[next];
+	}
+}
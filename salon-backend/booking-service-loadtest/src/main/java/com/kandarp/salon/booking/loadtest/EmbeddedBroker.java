@@ -0,0 +1,46 @@
+package com.kandarp.salon.booking.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.qpid.server.SystemLauncher;
+import org.apache.qpid.server.model.SystemConfig;
+
+/**
+ * In-memory Qpid Broker-J speaking AMQP 0-9-1, which Spring AMQP talks to as
+ * it would to RabbitMQ.
+ */
+class EmbeddedBroker implements AutoCloseable {
+
+	private final SystemLauncher launcher = new SystemLauncher();
+	private final int port;
+
+	EmbeddedBroker() throws Exception {
+		port = freePort();
+
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(SystemConfig.TYPE, "Memory");
+		attributes.put(SystemConfig.INITIAL_CONFIGURATION_LOCATION,
+				EmbeddedBroker.class.getResource("/qpid-config.json").toExternalForm());
+		attributes.put(SystemConfig.STARTUP_LOGGED_TO_SYSTEM_OUT, false);
+		attributes.put(SystemConfig.CONTEXT, Map.of("qpid.amqp_port", port));
+		launcher.startup(attributes);
+	}
+
+	int getPort() {
+		return port;
+	}
+
+	@Override
+	public void close() {
+		launcher.shutdown();
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
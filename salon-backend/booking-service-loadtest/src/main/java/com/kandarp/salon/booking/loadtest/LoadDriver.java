@@ -0,0 +1,121 @@
+package com.kandarp.salon.booking.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Virtual users that each issue requests back to back against booking-service
+ * until the run ends: booking creation for a random salon, day and slot, and
+ * the customer and salon booking pages. Only requests that start after the
+ * warmup are recorded.
+ */
+class LoadDriver {
+
+	enum Operation {
+		CREATE_BOOKING, LIST_CUSTOMER_BOOKINGS, LIST_SALON_BOOKINGS
+	}
+
+	private static final LocalTime FIRST_SLOT = LocalTime.of(9, 0);
+	private static final int SLOTS_PER_DAY = 37; // 09:00 to 18:00 every 15 minutes, one hour each
+	private static final int BOOKABLE_DAYS = 365;
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	private final LoadTestSettings settings;
+	private final String baseUrl;
+	private final String[] customerTokens;
+	private final String[] ownerTokens;
+
+	LoadDriver(LoadTestSettings settings, String baseUrl, TokenIssuer tokenIssuer) {
+		this.settings = settings;
+		this.baseUrl = baseUrl;
+		this.customerTokens = new String[settings.concurrency()];
+		for (int i = 0; i < customerTokens.length; i++) {
+			customerTokens[i] = tokenIssuer.issue("customer-" + i, "CUSTOMER");
+		}
+		this.ownerTokens = new String[settings.salons()];
+		for (int i = 0; i < ownerTokens.length; i++) {
+			ownerTokens[i] = tokenIssuer.issue("owner-" + (i + 1), "SALON_OWNER");
+		}
+	}
+
+	LoadStats run() {
+		LoadStats stats = new LoadStats();
+		long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+		long runUntil = measureFrom + settings.duration().toNanos();
+
+		try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor();
+				HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+						.connectTimeout(REQUEST_TIMEOUT).executor(Executors.newVirtualThreadPerTaskExecutor())
+						.build()) {
+			for (int user = 0; user < settings.concurrency(); user++) {
+				String customerToken = customerTokens[user];
+				virtualUsers.execute(() -> {
+					while (System.nanoTime() < runUntil) {
+						Operation operation = nextOperation();
+						long start = System.nanoTime();
+						int status = send(client, request(operation, customerToken));
+						if (start >= measureFrom) {
+							stats.record(operation, System.nanoTime() - start, status);
+						}
+					}
+				});
+			}
+		}
+		return stats;
+	}
+
+	private Operation nextOperation() {
+		double roll = ThreadLocalRandom.current().nextDouble();
+		if (roll < settings.createRatio()) {
+			return Operation.CREATE_BOOKING;
+		}
+		return roll < settings.createRatio() + (1 - settings.createRatio()) / 2 ? Operation.LIST_CUSTOMER_BOOKINGS
+				: Operation.LIST_SALON_BOOKINGS;
+	}
+
+	private HttpRequest request(Operation operation, String customerToken) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return switch (operation) {
+		case CREATE_BOOKING -> {
+			int salonId = 1 + random.nextInt(settings.salons());
+			LocalDate day = LocalDate.now().plusDays(1 + random.nextInt(BOOKABLE_DAYS));
+			String body = """
+					{"startTime": "%s", "serviceIds": [%d], "paymentMethod": "STRIPE"}"""
+					.formatted(day.atTime(FIRST_SLOT).plusMinutes(15L * random.nextInt(SLOTS_PER_DAY)), salonId);
+			yield authorized("/api/v1/bookings", customerToken).header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(body)).build();
+		}
+		case LIST_CUSTOMER_BOOKINGS -> authorized("/api/v1/bookings/customer/page?size=20", customerToken).GET()
+				.build();
+		case LIST_SALON_BOOKINGS -> authorized("/api/v1/bookings/salon/page?size=20",
+				ownerTokens[random.nextInt(ownerTokens.length)]).GET().build();
+		};
+	}
+
+	private HttpRequest.Builder authorized(String path, String token) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT)
+				.header("Authorization", "Bearer " + token);
+	}
+
+	/**
+	 * Sends the request and returns its status, or 0 if no response came.
+	 */
+	private static int send(HttpClient client, HttpRequest request) {
+		try {
+			return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return 0;
+		} catch (Exception e) {
+			return 0;
+		}
+	}
+}
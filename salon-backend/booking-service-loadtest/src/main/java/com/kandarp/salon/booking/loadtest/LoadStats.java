@@ -0,0 +1,74 @@
+package com.kandarp.salon.booking.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and outcome counts per operation. Responses with a 4xx
+ * status are counted as rejected, e.g. a slot that was already taken; 5xx
+ * responses and failed requests are errors.
+ */
+class LoadStats {
+
+	private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+	private final Map<LoadDriver.Operation, OperationStats> operations = new EnumMap<>(LoadDriver.Operation.class);
+
+	LoadStats() {
+		for (LoadDriver.Operation operation : LoadDriver.Operation.values()) {
+			operations.put(operation, new OperationStats());
+		}
+	}
+
+	void record(LoadDriver.Operation operation, long latencyNanos, int status) {
+		OperationStats stats = operations.get(operation);
+		stats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_LATENCY_MICROS));
+		if (status >= 200 && status < 300) {
+			stats.succeeded.increment();
+		} else if (status >= 400 && status < 500) {
+			stats.rejected.increment();
+		} else {
+			stats.failed.increment();
+		}
+	}
+
+	void print(PrintStream out, Duration measured) {
+		double seconds = measured.toMillis() / 1000.0;
+		out.printf("%-24s %10s %12s %9s %9s %9s %10s %10s%n", "operation", "requests", "throughput/s", "p50 ms",
+				"p99 ms", "max ms", "rejected", "error rate");
+
+		Histogram total = new Histogram(HIGHEST_LATENCY_MICROS, 3);
+		long totalRejected = 0;
+		long totalFailed = 0;
+		for (Map.Entry<LoadDriver.Operation, OperationStats> entry : operations.entrySet()) {
+			OperationStats stats = entry.getValue();
+			total.add(stats.latency);
+			totalRejected += stats.rejected.sum();
+			totalFailed += stats.failed.sum();
+			printRow(out, entry.getKey().name(), stats.latency, stats.rejected.sum(), stats.failed.sum(), seconds);
+		}
+		printRow(out, "TOTAL", total, totalRejected, totalFailed, seconds);
+	}
+
+	private static void printRow(PrintStream out, String name, Histogram latency, long rejected, long failed,
+			double seconds) {
+		long requests = latency.getTotalCount();
+		out.printf("%-24s %10d %12.1f %9.1f %9.1f %9.1f %10d %9.2f%%%n", name, requests, requests / seconds,
+				latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(99) / 1000.0,
+				latency.getMaxValue() / 1000.0, rejected, requests == 0 ? 0.0 : 100.0 * failed / requests);
+	}
+
+	private static final class OperationStats {
+		private final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+		private final LongAdder succeeded = new LongAdder();
+		private final LongAdder rejected = new LongAdder();
+		private final LongAdder failed = new LongAdder();
+	}
+}
@@ -0,0 +1,45 @@
+package com.kandarp.salon.booking.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.kandarp.salon.booking.BookingServiceApplication;
+
+/**
+ * Load test of the booking flow on one machine without network access. It
+ * starts an embedded AMQP broker and WireMock stand-ins for the downstream
+ * services and Keycloak, runs booking-service against them on an in-memory
+ * H2 database, drives it with {@link LoadDriver} and prints throughput,
+ * latency percentiles and error rates per operation.
+ *
+ * <pre>
+ * java -jar target/booking-service-loadtest-1.0.0.jar --concurrency=64 --duration=PT2M --stub-latency=PT0.05S
+ * </pre>
+ *
+ * See {@link LoadTestSettings} for all options.
+ */
+public class LoadTestMain {
+
+	public static void main(String[] args) throws Exception {
+		LoadTestSettings settings = LoadTestSettings.fromArgs(args);
+
+		LoadStats stats;
+		try (EmbeddedBroker broker = new EmbeddedBroker();
+				StubServices stubs = new StubServices(settings);
+				ConfigurableApplicationContext bookingService = startBookingService(broker, stubs)) {
+			String baseUrl = "http://localhost:" + bookingService.getEnvironment().getProperty("local.server.port");
+
+			System.out.printf("Driving %s with %d virtual users for %s after a %s warmup%n", baseUrl,
+					settings.concurrency(), settings.duration(), settings.warmup());
+			stats = new LoadDriver(settings, baseUrl, stubs.getTokenIssuer()).run();
+		}
+
+		stats.print(System.out, settings.duration());
+		System.exit(0);
+	}
+
+	private static ConfigurableApplicationContext startBookingService(EmbeddedBroker broker, StubServices stubs) {
+		return SpringApplication.run(BookingServiceApplication.class, "--spring.profiles.active=dev,loadtest",
+				"--loadtest.stub-url=" + stubs.getBaseUrl(), "--loadtest.amqp-port=" + broker.getPort());
+	}
+}
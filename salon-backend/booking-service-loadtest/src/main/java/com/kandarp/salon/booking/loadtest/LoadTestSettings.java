@@ -0,0 +1,49 @@
+package com.kandarp.salon.booking.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options of a load test run, given as {@code --name=value} arguments.
+ *
+ * @param concurrency  virtual users issuing requests back to back
+ * @param duration     measured run time
+ * @param warmup       run time before measuring starts
+ * @param salons       salons the bookings are spread over
+ * @param capacity     concurrent bookings every stub salon accepts
+ * @param createRatio  share of requests that create a booking, the rest list
+ *                     bookings of a customer or a salon
+ * @param stubLatency  median latency of the stubbed downstream services
+ * @param stubJitter   sigma of the log-normal stub latency, 0 for a fixed one
+ */
+record LoadTestSettings(int concurrency, Duration duration, Duration warmup, int salons, int capacity,
+		double createRatio, Duration stubLatency, double stubJitter) {
+
+	static LoadTestSettings fromArgs(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Expected --name=value but got " + arg);
+			}
+			values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+		}
+
+		LoadTestSettings settings = new LoadTestSettings(
+				Integer.parseInt(values.getOrDefault("concurrency", "32")),
+				Duration.parse(values.getOrDefault("duration", "PT60S")),
+				Duration.parse(values.getOrDefault("warmup", "PT15S")),
+				Integer.parseInt(values.getOrDefault("salons", "200")),
+				Integer.parseInt(values.getOrDefault("capacity", "3")),
+				Double.parseDouble(values.getOrDefault("create-ratio", "0.3")),
+				Duration.parse(values.getOrDefault("stub-latency", "PT0.02S")),
+				Double.parseDouble(values.getOrDefault("stub-jitter", "0.25")));
+		if (settings.concurrency() < 1 || settings.salons() < 1 || settings.capacity() < 1) {
+			throw new IllegalArgumentException("concurrency, salons and capacity must be positive");
+		}
+		if (settings.createRatio() < 0 || settings.createRatio() > 1) {
+			throw new IllegalArgumentException("create-ratio must be between 0 and 1");
+		}
+		return settings;
+	}
+}
@@ -0,0 +1,108 @@
+package com.kandarp.salon.booking.loadtest;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.nimbusds.jose.JOSEException;
+
+/**
+ * Stand-ins for user-service, salon-service, serviceoffering-service,
+ * payment-service and the Keycloak JWK set, served by one WireMock server.
+ * Responses are templated from the request, so any id resolves:
+ * service {@code n} belongs to salon {@code n}, and salon {@code n} is owned
+ * by {@code owner-n}. Every stub except the JWK set answers after the
+ * configured latency.
+ */
+class StubServices implements AutoCloseable {
+
+	static final String REALM_PATH = "/realms/loadtest";
+
+	private static final String USER = """
+			{"userId": "{{id}}", "firstName": "Load", "lastName": "Test", "userName": "{{id}}",
+			 "email": "{{id}}@loadtest.local", "gender": "MALE"}""";
+
+	private static final String SALON = """
+			{"salonId": {{id}}, "salonName": "Salon {{id}}", "active": true, "openTime": "09:00:00",
+			 "closeTime": "19:00:00", "capacity": %d, "address": "{{id}} Main Street", "city": "Springfield",
+			 "state": "Illinois", "zipcode": "62701", "email": "salon{{id}}@loadtest.local",
+			 "contactNumber": "5550100000", "salonImages": [], "user": {"userId": "owner-{{id}}"}}""";
+
+	private static final String SERVICE = """
+			{"id": {{id}}, "name": "Haircut", "description": "Cut and style", "price": 40, "duration": 60,
+			 "salonId": {{id}}, "categoryId": 1, "available": true}""";
+
+	private final WireMockServer server;
+	private final LoadTestSettings settings;
+	private final TokenIssuer tokenIssuer;
+
+	StubServices(LoadTestSettings settings) throws JOSEException {
+		this.settings = settings;
+		this.server = new WireMockServer(options().dynamicPort().globalTemplating(true)
+				.containerThreads(Math.max(64, settings.concurrency() * 4)));
+		server.start();
+
+		tokenIssuer = new TokenIssuer(getIssuer());
+		server.stubFor(get(urlPathEqualTo(REALM_PATH + "/protocol/openid-connect/certs")).willReturn(
+				aResponse().withHeader("Content-Type", "application/json").withBody(tokenIssuer.jwkSetJson())));
+
+		server.stubFor(get(urlPathMatching("/api/v1/users/[^/]+"))
+				.willReturn(json(template(USER, "request.path.[3]"))));
+		server.stubFor(post(urlPathEqualTo("/api/v1/users/batch")).willReturn(json(
+				"[{{#each (parseJson request.body) as |id|}}" + USER + "{{#unless @last}},{{/unless}}{{/each}}]")));
+
+		String salon = SALON.formatted(settings.capacity());
+		server.stubFor(get(urlPathMatching("/api/v1/salons/[0-9]+"))
+				.willReturn(json(template(salon, "request.path.[3]"))));
+		server.stubFor(get(urlPathMatching("/api/v1/salons/owner/owner-[0-9]+"))
+				.willReturn(json(template(salon, "regexExtract request.path.[4] '[0-9]+'"))));
+		// Views are stored when a booking is made, so the bulk fallback is never needed
+		server.stubFor(get(urlPathMatching("/api/v1/salons/list/.+")).willReturn(json("[]")));
+
+		// The driver books a single service per booking
+		server.stubFor(get(urlPathMatching("/api/v1/salonservices/list/[0-9]+"))
+				.willReturn(json("[" + template(SERVICE, "request.path.[4]") + "]")));
+
+		server.stubFor(post(urlPathEqualTo("/api/v1/payments/create")).willReturn(json(
+				"{\"paymentLinkUrl\": \"http://localhost/pay/{{jsonPath request.body '$.bookingId'}}\"}")));
+	}
+
+	String getBaseUrl() {
+		return server.baseUrl();
+	}
+
+	String getIssuer() {
+		return getBaseUrl() + REALM_PATH;
+	}
+
+	TokenIssuer getTokenIssuer() {
+		return tokenIssuer;
+	}
+
+	@Override
+	public void close() {
+		server.stop();
+	}
+
+	/**
+	 * Replaces the {{id}} placeholder with the given Handlebars expression.
+	 */
+	private static String template(String body, String idExpression) {
+		return body.replace("{{id}}", "{{" + idExpression + "}}");
+	}
+
+	private ResponseDefinitionBuilder json(String body) {
+		ResponseDefinitionBuilder response = aResponse().withHeader("Content-Type", "application/json").withBody(body);
+		long latencyMillis = settings.stubLatency().toMillis();
+		if (latencyMillis <= 0) {
+			return response;
+		}
+		return settings.stubJitter() > 0 ? response.withLogNormalRandomDelay(latencyMillis, settings.stubJitter())
+				: response.withFixedDelay((int) latencyMillis);
+	}
+}
@@ -0,0 +1,52 @@
+package com.kandarp.salon.booking.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+/**
+ * Signs access tokens with a key generated for the run, in place of Keycloak.
+ * The public key is served by the stubs as the realm's JWK set.
+ */
+class TokenIssuer {
+
+	private static final Duration TOKEN_LIFETIME = Duration.ofDays(1);
+
+	private final RSAKey key;
+	private final String issuer;
+
+	TokenIssuer(String issuer) throws JOSEException {
+		this.key = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+		this.issuer = issuer;
+	}
+
+	String jwkSetJson() {
+		return new JWKSet(key.toPublicJWK()).toString();
+	}
+
+	String issue(String subject, String role) {
+		Instant now = Instant.now();
+		JWTClaimsSet claims = new JWTClaimsSet.Builder().issuer(issuer).subject(subject)
+				.issueTime(Date.from(now)).expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+				.claim("roles", List.of(role)).build();
+		SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+		try {
+			jwt.sign(new RSASSASigner(key));
+		} catch (JOSEException e) {
+			throw new IllegalStateException("Signing a load test token failed", e);
+		}
+		return jwt.serialize();
+	}
+}
@@ -0,0 +1,3 @@
+-- H2 stores strings bound to a JSON column as JSON string literals, so keep the
+-- converted service snapshots as plain text as MySQL effectively does.
+ALTER TABLE booking_views ALTER COLUMN services SET DATA TYPE CHARACTER LARGE OBJECT;
@@ -0,0 +1,9 @@
+-- Salon listings, keyset pages and exports read bookings in (start_time, id)
+-- order. The old (salon_id, start_time, end_time) index cannot serve the id
+-- tiebreak, so every page sorted the salon's remaining bookings; end_time stays
+-- last for the overlap filter of range queries. Needed once on databases
+-- created before the index changed, since ddl-auto=update adds the new index
+-- but keeps the old one and validate adds neither.
+ALTER TABLE bookings
+    DROP INDEX idx_bookings_salon_time,
+    ADD INDEX idx_bookings_salon_time_id (salon_id, start_time, id, end_time);
@@ -0,0 +1,5 @@
+-- Hibernate created bookings.status as a native ENUM of the statuses known at
+-- the time, which rejects EXPIRED. Store the status as text instead; existing
+-- values are kept. Needed once on databases created before EXPIRED existed,
+-- since neither ddl-auto=update nor validate changes an existing column.
+ALTER TABLE bookings MODIFY status VARCHAR(20) NOT NULL;
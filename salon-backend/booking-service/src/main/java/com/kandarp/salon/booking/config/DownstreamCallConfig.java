@@ -0,0 +1,29 @@
+package com.kandarp.salon.booking.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+
+@Configuration
+public class DownstreamCallConfig {
+
+	/**
+	 * Runs independent Feign calls concurrently on virtual threads. The caller's
+	 * security context is copied to every task so that JwtRequestInterceptor
+	 * still forwards the bearer token, and so are the thread locals known to
+	 * context-propagation, among them the current observation, so that the calls
+	 * stay in the caller's trace.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	ExecutorService downstreamCallExecutor() {
+		ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
+		return new DelegatingSecurityContextExecutorService(ContextExecutorService
+				.wrap(Executors.newVirtualThreadPerTaskExecutor(), contextSnapshotFactory::captureAll));
+	}
+}
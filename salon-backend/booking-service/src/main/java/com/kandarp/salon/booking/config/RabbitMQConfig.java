@@ -1,10 +1,18 @@
 package com.kandarp.salon.booking.config;
 
+import java.time.Duration;
+
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,6 +26,27 @@ public class RabbitMQConfig {
 		return new Jackson2JsonMessageConverter();
 	}
 
+	/**
+	 * Delivers payment-completed events to the listener in batches of up to
+	 * {@code batchSize} booking ids, so that a burst of payments is confirmed
+	 * with one update instead of one transaction per booking. A partial batch
+	 * is delivered once no message arrived for {@code receiveTimeout}.
+	 */
+	@Bean
+	SimpleRabbitListenerContainerFactory bookingBatchListenerContainerFactory(
+			SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+			@Value("${booking.confirmation.batch-size}") int batchSize,
+			@Value("${booking.confirmation.receive-timeout}") Duration receiveTimeout) {
+		SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+		configurer.configure(factory, connectionFactory);
+		factory.setBatchListener(true);
+		factory.setConsumerBatchEnabled(true);
+		factory.setBatchSize(batchSize);
+		factory.setPrefetchCount(Math.max(batchSize, 250));
+		factory.setReceiveTimeout(receiveTimeout.toMillis());
+		return factory;
+	}
+
 	@Bean
 	DirectExchange paymentExchange() {
 		return new DirectExchange(Messaging.PAYMENT_EXCHANGE);
@@ -28,6 +57,21 @@ public class RabbitMQConfig {
 		return new DirectExchange(Messaging.NOTIFICATION_EXCHANGE);
 	}
 
+	@Bean
+	DirectExchange salonExchange() {
+		return new DirectExchange(Messaging.SALON_EXCHANGE);
+	}
+
+	@Bean
+	DirectExchange userExchange() {
+		return new DirectExchange(Messaging.USER_EXCHANGE);
+	}
+
+	@Bean
+	FanoutExchange bookingFeedExchange() {
+		return new FanoutExchange(Messaging.BOOKING_FEED_EXCHANGE);
+	}
+
 	@Bean
 	Queue bookingQueue() {
 		return new Queue(Messaging.BOOKING_QUEUE);
@@ -43,6 +87,25 @@ public class RabbitMQConfig {
 	Queue salonQueue() {
 		return new Queue(Messaging.SALON_QUEUE);
 	}
+
+	@Bean
+	Queue bookingSalonUpdateQueue() {
+		return new Queue(Messaging.BOOKING_SALON_UPDATE_QUEUE);
+	}
+
+	@Bean
+	Queue bookingUserUpdateQueue() {
+		return new Queue(Messaging.BOOKING_USER_UPDATE_QUEUE);
+	}
+
+	/**
+	 * Exclusive, auto-deleted queue of this instance, so that every instance
+	 * receives every booking feed event for the dashboards connected to it.
+	 */
+	@Bean
+	Queue bookingFeedQueue() {
+		return new AnonymousQueue();
+	}
 	
 	
 
@@ -63,4 +126,21 @@ public class RabbitMQConfig {
 		return BindingBuilder.bind(salonQueue).to(notificationExchange)
 				.with(Messaging.NOTIFICATION_EXCHANGE_SALON_ROUTING_KEY);
 	}
-}
\ No newline at end of file
+
+	@Bean
+	Binding bookingSalonUpdateQueueBinding(Queue bookingSalonUpdateQueue, DirectExchange salonExchange) {
+		return BindingBuilder.bind(bookingSalonUpdateQueue).to(salonExchange)
+				.with(Messaging.SALON_EXCHANGE_UPDATED_ROUTING_KEY);
+	}
+
+	@Bean
+	Binding bookingUserUpdateQueueBinding(Queue bookingUserUpdateQueue, DirectExchange userExchange) {
+		return BindingBuilder.bind(bookingUserUpdateQueue).to(userExchange)
+				.with(Messaging.USER_EXCHANGE_UPDATED_ROUTING_KEY);
+	}
+
+	@Bean
+	Binding bookingFeedQueueBinding(Queue bookingFeedQueue, FanoutExchange bookingFeedExchange) {
+		return BindingBuilder.bind(bookingFeedQueue).to(bookingFeedExchange);
+	}
+}
@@ -1,9 +1,14 @@
 package com.kandarp.salon.booking.controller;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -12,15 +17,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.kandarp.salon.booking.service.BookingService;
 import com.kandarp.salon.payment.dto.PaymentLinkResponseDto;
+import com.kandarp.salon.shared.booking.constant.BookingExportFormat;
 import com.kandarp.salon.shared.booking.constant.BookingStatus;
+import com.kandarp.salon.shared.booking.constant.ReportBucket;
+import com.kandarp.salon.shared.booking.dto.BookingAvailabilityDto;
+import com.kandarp.salon.shared.booking.dto.BookingPageDto;
 import com.kandarp.salon.shared.booking.dto.BookingRequestDto;
 import com.kandarp.salon.shared.booking.dto.BookingResponseDto;
+import com.kandarp.salon.shared.booking.dto.BulkBookingRequestDto;
+import com.kandarp.salon.shared.booking.dto.BulkBookingResponseDto;
+import com.kandarp.salon.shared.booking.dto.SalonBookingAnalyticsDto;
 import com.kandarp.salon.shared.booking.dto.SalonBookingReportDto;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -33,39 +48,101 @@ import lombok.RequiredArgsConstructor;
 @SecurityRequirement(name = "Keycloak")
 public class BookingController {
 
+	private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
 	private final BookingService bookingService;
 
 	@PostMapping
 	public ResponseEntity<PaymentLinkResponseDto> createBooking(@Valid @RequestBody BookingRequestDto requestDto,
+			@RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
 			@AuthenticationPrincipal Jwt jwt) {
-		PaymentLinkResponseDto paymentLinkResponseDto = bookingService.createBooking(jwt.getSubject(), requestDto);
+		PaymentLinkResponseDto paymentLinkResponseDto = bookingService.createBooking(jwt.getSubject(), requestDto,
+				idempotencyKey);
 		return new ResponseEntity<>(paymentLinkResponseDto, HttpStatus.CREATED);
 	}
 
+	@PostMapping("/bulk")
+	public ResponseEntity<BulkBookingResponseDto> createBookings(@Valid @RequestBody BulkBookingRequestDto requestDto,
+			@RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+			@AuthenticationPrincipal Jwt jwt) {
+		BulkBookingResponseDto responseDto = bookingService.createBookings(jwt.getSubject(), requestDto,
+				idempotencyKey);
+		return new ResponseEntity<>(responseDto, HttpStatus.CREATED);
+	}
+
 	@GetMapping("/{bookingId}")
 	public ResponseEntity<BookingResponseDto> getBookingById(@PathVariable Long bookingId) {
 		BookingResponseDto booking = bookingService.getBookingById(bookingId);
 		return ResponseEntity.ok(booking);
 	}
 
+	@GetMapping("/availability")
+	public ResponseEntity<BookingAvailabilityDto> getAvailability(@RequestParam Long salonId,
+			@RequestParam LocalDate date, @RequestParam(required = false) Long duration,
+			@RequestParam(required = false) Set<Long> serviceIds) {
+		BookingAvailabilityDto availability = bookingService.getAvailability(salonId, date, duration, serviceIds);
+		return ResponseEntity.ok(availability);
+	}
+
 	@GetMapping("/customer")
 	public ResponseEntity<List<BookingResponseDto>> getBookingsByCustomer(@AuthenticationPrincipal Jwt jwt) {
 		List<BookingResponseDto> bookings = bookingService.getBookingsByCustomer(jwt.getSubject());
 		return ResponseEntity.ok(bookings);
 	}
 
+	@GetMapping("/customer/page")
+	public ResponseEntity<BookingPageDto> getBookingPageByCustomer(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size, @AuthenticationPrincipal Jwt jwt) {
+		BookingPageDto page = bookingService.getBookingPageByCustomer(jwt.getSubject(), cursor, size);
+		return ResponseEntity.ok(page);
+	}
+
 	@GetMapping("/salon")
 	public ResponseEntity<List<BookingResponseDto>> getBookingsBySalon(@AuthenticationPrincipal Jwt jwt) {
 		List<BookingResponseDto> responseDtos = bookingService.getBookingsBySalon(jwt.getSubject());
 		return ResponseEntity.ok(responseDtos);
 	}
 
+	@GetMapping("/salon/export")
+	public ResponseEntity<StreamingResponseBody> exportBookingsBySalon(
+			@RequestParam(defaultValue = "CSV") BookingExportFormat format, @AuthenticationPrincipal Jwt jwt) {
+		StreamingResponseBody body = bookingService.exportBookingsBySalon(jwt.getSubject(), format);
+		String extension = format == BookingExportFormat.CSV ? "csv" : "ndjson";
+		return ResponseEntity.ok()
+				.contentType(format == BookingExportFormat.CSV ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+						: MediaType.APPLICATION_NDJSON)
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename("bookings." + extension).build().toString())
+				.body(body);
+	}
+
+	@GetMapping(path = "/salon/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribeToSalonFeed(@AuthenticationPrincipal Jwt jwt) {
+		return bookingService.subscribeToSalonFeed(jwt.getSubject());
+	}
+
+	@GetMapping("/salon/page")
+	public ResponseEntity<BookingPageDto> getBookingPageBySalon(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size, @AuthenticationPrincipal Jwt jwt) {
+		BookingPageDto page = bookingService.getBookingPageBySalon(jwt.getSubject(), cursor, size);
+		return ResponseEntity.ok(page);
+	}
+
 	@GetMapping("/report")
 	public ResponseEntity<SalonBookingReportDto> getSalonReport(@AuthenticationPrincipal Jwt jwt) {
 		SalonBookingReportDto report = bookingService.getSalonBookingReport(jwt.getSubject());
 		return ResponseEntity.ok(report);
 	}
 
+	@GetMapping("/report/buckets")
+	public ResponseEntity<SalonBookingAnalyticsDto> getSalonAnalytics(@RequestParam LocalDate from,
+			@RequestParam LocalDate to, @RequestParam(defaultValue = "DAY") ReportBucket bucket,
+			@AuthenticationPrincipal Jwt jwt) {
+		SalonBookingAnalyticsDto analytics = bookingService.getSalonBookingAnalytics(jwt.getSubject(), from, to,
+				bucket);
+		return ResponseEntity.ok(analytics);
+	}
+
 
 	@PutMapping("/{bookingId}/status")
 	public ResponseEntity<BookingResponseDto> updateBookingStatus(@PathVariable Long bookingId,
@@ -80,4 +157,19 @@ public class BookingController {
 		List<BookingResponseDto> bookings = bookingService.getBookingsByDate(date, jwt.getSubject());
 		return ResponseEntity.ok(bookings);
 	}
+
+	@GetMapping("/booked-slots/{date}/page")
+	public ResponseEntity<BookingPageDto> getBookedSlotPage(@PathVariable LocalDate date,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size,
+			@AuthenticationPrincipal Jwt jwt) {
+		BookingPageDto page = bookingService.getBookingPageByDate(date, jwt.getSubject(), cursor, size);
+		return ResponseEntity.ok(page);
+	}
+
+	@GetMapping("/booked-slots")
+	public ResponseEntity<List<BookingResponseDto>> getBookedSlotsInRange(@RequestParam LocalDate from,
+			@RequestParam LocalDate to, @AuthenticationPrincipal Jwt jwt) {
+		List<BookingResponseDto> bookings = bookingService.getBookingsByDateRange(from, to, jwt.getSubject());
+		return ResponseEntity.ok(bookings);
+	}
 }
\ No newline at end of file
@@ -15,11 +15,15 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+		@Index(name = "idx_bookings_salon_time_id", columnList = "salon_id, start_time, id, end_time"),
+		@Index(name = "idx_bookings_customer_time", columnList = "customer_user_id, start_time, id"),
+		@Index(name = "idx_bookings_status_created", columnList = "status, created_at") })
 public class Booking {
 
 	@Id
@@ -43,13 +47,17 @@ public class Booking {
 	@Column(name = "service_id")
 	private Set<Long> serviceIds;
 
-	@Column(nullable = false)
+	// Plain text rather than a native ENUM, so new statuses need no schema change
+	@Column(nullable = false, columnDefinition = "varchar(20)")
 	@Enumerated(EnumType.STRING)
 	private BookingStatus status;
 
 	@Column(nullable = false)
 	private BigDecimal totalPrice;
 
+	@Column(updatable = false)
+	private LocalDateTime createdAt = LocalDateTime.now();
+
 	public Long getId() {
 		return id;
 	}
@@ -114,4 +122,12 @@ public class Booking {
 		this.totalPrice = totalPrice;
 	}
 
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.kandarp.salon.booking.entity;
+
+import java.util.List;
+
+import com.kandarp.salon.booking.entity.converter.ServiceSnapshotListConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Salon, customer and service details of a booking, copied from the owning
+ * services when the booking is made so that reads need no remote calls. Salon
+ * and customer details are refreshed from salon- and user-updated events;
+ * service prices and durations stay as they were booked.
+ */
+@Entity
+@Table(name = "booking_views", indexes = { @Index(name = "idx_booking_views_salon", columnList = "salon_id") })
+public class BookingView {
+
+	@Id
+	private Long bookingId;
+
+	@Column(nullable = false)
+	private Long salonId;
+
+	private String salonName;
+	private String salonAddress;
+	private String salonCity;
+	private String salonState;
+	private String salonZipcode;
+	private String salonContactNumber;
+
+	private String customerFirstName;
+	private String customerLastName;
+	private String customerEmail;
+
+	@Convert(converter = ServiceSnapshotListConverter.class)
+	@Column(columnDefinition = "json")
+	private List<ServiceSnapshot> services;
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public void setBookingId(Long bookingId) {
+		this.bookingId = bookingId;
+	}
+
+	public Long getSalonId() {
+		return salonId;
+	}
+
+	public void setSalonId(Long salonId) {
+		this.salonId = salonId;
+	}
+
+	public String getSalonName() {
+		return salonName;
+	}
+
+	public void setSalonName(String salonName) {
+		this.salonName = salonName;
+	}
+
+	public String getSalonAddress() {
+		return salonAddress;
+	}
+
+	public void setSalonAddress(String salonAddress) {
+		this.salonAddress = salonAddress;
+	}
+
+	public String getSalonCity() {
+		return salonCity;
+	}
+
+	public void setSalonCity(String salonCity) {
+		this.salonCity = salonCity;
+	}
+
+	public String getSalonState() {
+		return salonState;
+	}
+
+	public void setSalonState(String salonState) {
+		this.salonState = salonState;
+	}
+
+	public String getSalonZipcode() {
+		return salonZipcode;
+	}
+
+	public void setSalonZipcode(String salonZipcode) {
+		this.salonZipcode = salonZipcode;
+	}
+
+	public String getSalonContactNumber() {
+		return salonContactNumber;
+	}
+
+	public void setSalonContactNumber(String salonContactNumber) {
+		this.salonContactNumber = salonContactNumber;
+	}
+
+	public String getCustomerFirstName() {
+		return customerFirstName;
+	}
+
+	public void setCustomerFirstName(String customerFirstName) {
+		this.customerFirstName = customerFirstName;
+	}
+
+	public String getCustomerLastName() {
+		return customerLastName;
+	}
+
+	public void setCustomerLastName(String customerLastName) {
+		this.customerLastName = customerLastName;
+	}
+
+	public String getCustomerEmail() {
+		return customerEmail;
+	}
+
+	public void setCustomerEmail(String customerEmail) {
+		this.customerEmail = customerEmail;
+	}
+
+	public List<ServiceSnapshot> getServices() {
+		return services;
+	}
+
+	public void setServices(List<ServiceSnapshot> services) {
+		this.services = services;
+	}
+
+}
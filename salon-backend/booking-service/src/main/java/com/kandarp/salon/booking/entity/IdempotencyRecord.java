@@ -0,0 +1,109 @@
+package com.kandarp.salon.booking.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * An Idempotency-Key sent by a customer, the hash of the request it came with
+ * and, once the request completed, the JSON of its response. A row without a
+ * response belongs to a request that is still running.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+		@Index(name = "idx_idempotency_keys_created_at", columnList = "created_at") })
+@IdClass(IdempotencyRecord.Key.class)
+public class IdempotencyRecord {
+
+	@Id
+	@Column(length = 64)
+	private String customerUserId;
+
+	@Id
+	@Column(length = 128)
+	private String idempotencyKey;
+
+	@Column(nullable = false, length = 64)
+	private String requestHash;
+
+	@Lob
+	private String response;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	public String getCustomerUserId() {
+		return customerUserId;
+	}
+
+	public void setCustomerUserId(String customerUserId) {
+		this.customerUserId = customerUserId;
+	}
+
+	public String getIdempotencyKey() {
+		return idempotencyKey;
+	}
+
+	public void setIdempotencyKey(String idempotencyKey) {
+		this.idempotencyKey = idempotencyKey;
+	}
+
+	public String getRequestHash() {
+		return requestHash;
+	}
+
+	public void setRequestHash(String requestHash) {
+		this.requestHash = requestHash;
+	}
+
+	public String getResponse() {
+		return response;
+	}
+
+	public void setResponse(String response) {
+		this.response = response;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private String customerUserId;
+		private String idempotencyKey;
+
+		public Key() {
+		}
+
+		public Key(String customerUserId, String idempotencyKey) {
+			this.customerUserId = customerUserId;
+			this.idempotencyKey = idempotencyKey;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Key key && Objects.equals(customerUserId, key.customerUserId)
+					&& Objects.equals(idempotencyKey, key.idempotencyKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(customerUserId, idempotencyKey);
+		}
+	}
+}
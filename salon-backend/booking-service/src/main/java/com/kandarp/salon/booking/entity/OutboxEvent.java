@@ -0,0 +1,101 @@
+package com.kandarp.salon.booking.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * A message written in the same transaction as the booking change it
+ * announces and published to RabbitMQ afterwards by the outbox relay.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+		@Index(name = "idx_outbox_events_published", columnList = "published_at, id") })
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private String exchange;
+
+	@Column(nullable = false)
+	private String routingKey;
+
+	@Column(nullable = false)
+	private String payloadType;
+
+	@Lob
+	@Column(nullable = false)
+	private String payload;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt = LocalDateTime.now();
+
+	private LocalDateTime publishedAt;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getExchange() {
+		return exchange;
+	}
+
+	public void setExchange(String exchange) {
+		this.exchange = exchange;
+	}
+
+	public String getRoutingKey() {
+		return routingKey;
+	}
+
+	public void setRoutingKey(String routingKey) {
+		this.routingKey = routingKey;
+	}
+
+	public String getPayloadType() {
+		return payloadType;
+	}
+
+	public void setPayloadType(String payloadType) {
+		this.payloadType = payloadType;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public void setPayload(String payload) {
+		this.payload = payload;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public LocalDateTime getPublishedAt() {
+		return publishedAt;
+	}
+
+	public void setPublishedAt(LocalDateTime publishedAt) {
+		this.publishedAt = publishedAt;
+	}
+
+}
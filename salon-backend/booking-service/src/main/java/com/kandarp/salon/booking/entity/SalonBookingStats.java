@@ -0,0 +1,77 @@
+package com.kandarp.salon.booking.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Running booking totals of one salon. A row is seeded from the bookings
+ * table the first time the salon's report is read and is then only changed
+ * through the delta update in SalonBookingStatsRepository, in the same
+ * transaction as the booking change it accounts for. Deleting a row, for
+ * example after a rollout during which older nodes wrote bookings without
+ * deltas, makes the next read seed it again.
+ */
+@Entity
+@Table(name = "salon_booking_stats")
+public class SalonBookingStats {
+
+	@Id
+	private Long salonId;
+
+	@Column(nullable = false)
+	private long totalBookings;
+
+	@Column(nullable = false)
+	private long cancelledBookings;
+
+	@Column(nullable = false, precision = 19, scale = 2)
+	private BigDecimal totalEarnings;
+
+	@Column(nullable = false, precision = 19, scale = 2)
+	private BigDecimal totalRefund;
+
+	public Long getSalonId() {
+		return salonId;
+	}
+
+	public void setSalonId(Long salonId) {
+		this.salonId = salonId;
+	}
+
+	public long getTotalBookings() {
+		return totalBookings;
+	}
+
+	public void setTotalBookings(long totalBookings) {
+		this.totalBookings = totalBookings;
+	}
+
+	public long getCancelledBookings() {
+		return cancelledBookings;
+	}
+
+	public void setCancelledBookings(long cancelledBookings) {
+		this.cancelledBookings = cancelledBookings;
+	}
+
+	public BigDecimal getTotalEarnings() {
+		return totalEarnings;
+	}
+
+	public void setTotalEarnings(BigDecimal totalEarnings) {
+		this.totalEarnings = totalEarnings;
+	}
+
+	public BigDecimal getTotalRefund() {
+		return totalRefund;
+	}
+
+	public void setTotalRefund(BigDecimal totalRefund) {
+		this.totalRefund = totalRefund;
+	}
+
+}
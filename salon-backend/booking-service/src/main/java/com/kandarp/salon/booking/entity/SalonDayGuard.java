@@ -0,0 +1,84 @@
+package com.kandarp.salon.booking.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * One row per salon and day that has been booked. Booking changes lock the
+ * row for the rest of their transaction, which serializes slot checks for the
+ * same salon day across all nodes, and advance the version so that every node
+ * can tell whether its cached slots of that day are still current.
+ */
+@Entity
+@Table(name = "salon_day_guards")
+@IdClass(SalonDayGuard.Key.class)
+public class SalonDayGuard {
+
+	@Id
+	private Long salonId;
+
+	@Id
+	private LocalDate bookingDate;
+
+	@Column(nullable = false)
+	private long version;
+
+	public Long getSalonId() {
+		return salonId;
+	}
+
+	public void setSalonId(Long salonId) {
+		this.salonId = salonId;
+	}
+
+	public LocalDate getBookingDate() {
+		return bookingDate;
+	}
+
+	public void setBookingDate(LocalDate bookingDate) {
+		this.bookingDate = bookingDate;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private Long salonId;
+		private LocalDate bookingDate;
+
+		public Key() {
+		}
+
+		public Key(Long salonId, LocalDate bookingDate) {
+			this.salonId = salonId;
+			this.bookingDate = bookingDate;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Key key && Objects.equals(salonId, key.salonId)
+					&& Objects.equals(bookingDate, key.bookingDate);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(salonId, bookingDate);
+		}
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.kandarp.salon.booking.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * A booked service as it was offered when the booking was made.
+ */
+public record ServiceSnapshot(Long id, String name, BigDecimal price, long duration) {
+}
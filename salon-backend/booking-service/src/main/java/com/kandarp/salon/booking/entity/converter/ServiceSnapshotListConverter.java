@@ -0,0 +1,43 @@
+package com.kandarp.salon.booking.entity.converter;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kandarp.salon.booking.entity.ServiceSnapshot;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class ServiceSnapshotListConverter implements AttributeConverter<List<ServiceSnapshot>, String> {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final TypeReference<List<ServiceSnapshot>> TYPE = new TypeReference<>() {
+	};
+
+	@Override
+	public String convertToDatabaseColumn(List<ServiceSnapshot> services) {
+		if (services == null) {
+			return null;
+		}
+		try {
+			return OBJECT_MAPPER.writeValueAsString(services);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Cannot serialize booked services", e);
+		}
+	}
+
+	@Override
+	public List<ServiceSnapshot> convertToEntityAttribute(String json) {
+		if (json == null) {
+			return List.of();
+		}
+		try {
+			return OBJECT_MAPPER.readValue(json, TYPE);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Cannot read booked services", e);
+		}
+	}
+}
@@ -25,6 +25,7 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 import org.springframework.web.util.WebUtils;
 
+import com.kandarp.salon.shared.exception.ConflictException;
 import com.kandarp.salon.shared.exception.ValidationException;
 
 import feign.FeignException;
@@ -87,6 +88,23 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 		return new ResponseEntity<>(problemDetail, HttpStatus.BAD_REQUEST);
 	}
 
+	/**
+	 * Catch ConflictException exception
+	 */
+	@ExceptionHandler(ConflictException.class)
+	public ResponseEntity<Object> handleConflictException(ConflictException ex, WebRequest request) {
+		LOGGER.warn("Conflict exception: {}", ex.getMessage());
+
+		ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+		problemDetail.setType(URI.create(TYPE));
+		problemDetail.setTitle(ex.getMessage());
+		problemDetail.setInstance(URI.create(getRequestPath(request)));
+		problemDetail.setProperty("timestamp", LocalDateTime.now());
+		problemDetail.setProperty("details", null);
+
+		return new ResponseEntity<>(problemDetail, HttpStatus.CONFLICT);
+	}
+
 	/**
 	 * Catch AuthorizationDeniedException exception
 	 */
@@ -17,6 +17,7 @@ public interface BookingMapper {
     @Mapping(target = "endTime", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "totalPrice", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     Booking toEntity(BookingRequestDto dto);
 
     @Mapping(target = "salon", ignore = true)
@@ -32,5 +33,6 @@ public interface BookingMapper {
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "serviceIds", ignore = true)
     @Mapping(target = "totalPrice", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     void updateEntityFromDTO(BookingRequestDto dto, @MappingTarget Booking entity);
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.kandarp.salon.booking.messaging;
 
 
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
@@ -13,11 +17,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BookingEventConsumer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BookingEventConsumer.class);
 
     private final BookingService bookingService;
 
-    @RabbitListener(queues = Messaging.BOOKING_QUEUE)
-    public void bookingUpdateListener(Long bookingId){
-        bookingService.confirmBooking(bookingId);
+    @RabbitListener(queues = Messaging.BOOKING_QUEUE, containerFactory = "bookingBatchListenerContainerFactory")
+    public void bookingUpdateListener(List<Long> bookingIds){
+        int confirmed = bookingService.confirmBookings(bookingIds);
+        LOGGER.debug("Confirmed {} of {} paid bookings", confirmed, bookingIds.size());
     }
-}
\ No newline at end of file
+}
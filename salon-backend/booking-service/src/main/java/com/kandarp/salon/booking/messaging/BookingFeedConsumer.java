@@ -0,0 +1,21 @@
+package com.kandarp.salon.booking.messaging;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.kandarp.salon.booking.service.feed.SalonFeedRegistry;
+import com.kandarp.salon.shared.booking.dto.BookingFeedEventDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class BookingFeedConsumer {
+
+	private final SalonFeedRegistry salonFeedRegistry;
+
+	@RabbitListener(queues = "#{bookingFeedQueue.name}")
+	public void bookingFeedListener(BookingFeedEventDto bookingFeedEventDto) {
+		salonFeedRegistry.dispatch(bookingFeedEventDto);
+	}
+}
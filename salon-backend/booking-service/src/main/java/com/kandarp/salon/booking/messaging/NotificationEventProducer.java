@@ -1,32 +1,80 @@
 package com.kandarp.salon.booking.messaging;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.kandarp.salon.booking.entity.OutboxEvent;
+import com.kandarp.salon.booking.repository.OutboxEventRepository;
 import com.kandarp.salon.notification.dto.NotificationRequestDto;
 import com.kandarp.salon.shared.constant.Messaging;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Queues notification events in the outbox as part of the caller's
+ * transaction. OutboxRelay publishes them once the transaction has committed.
+ */
 @Component
 @RequiredArgsConstructor
 public class NotificationEventProducer {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(NotificationEventProducer.class);
 
-	private final RabbitTemplate rabbitTemplate;
+	private final OutboxEventRepository outboxEventRepository;
+	private final Jackson2JsonMessageConverter jackson2JsonMessageConverter;
 
+	@Transactional(propagation = Propagation.MANDATORY)
 	public void sendUserNotificationEvent(NotificationRequestDto notificationRequestDto) {
-		LOGGER.info("Sending user notification event");
-		rabbitTemplate.convertAndSend(Messaging.NOTIFICATION_EXCHANGE, Messaging.NOTIFICATION_EXCHANGE_USER_ROUTING_KEY,
+		LOGGER.info("Queueing user notification event");
+		enqueue(Messaging.NOTIFICATION_EXCHANGE, Messaging.NOTIFICATION_EXCHANGE_USER_ROUTING_KEY,
 				notificationRequestDto);
 	}
 
+	@Transactional(propagation = Propagation.MANDATORY)
 	public void sendSalonNotificationEvent(NotificationRequestDto notificationRequestDto) {
-		LOGGER.info("Sending salon notification event");
-		rabbitTemplate.convertAndSend(Messaging.NOTIFICATION_EXCHANGE,
-				Messaging.NOTIFICATION_EXCHANGE_SALON_ROUTING_KEY, notificationRequestDto);
+		LOGGER.info("Queueing salon notification event");
+		enqueue(Messaging.NOTIFICATION_EXCHANGE, Messaging.NOTIFICATION_EXCHANGE_SALON_ROUTING_KEY,
+				notificationRequestDto);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void sendUserNotificationEvents(List<NotificationRequestDto> notificationRequestDtos) {
+		LOGGER.info("Queueing {} user notification events", notificationRequestDtos.size());
+		outboxEventRepository.saveAll(notificationRequestDtos.stream().map(dto -> toOutboxEvent(
+				Messaging.NOTIFICATION_EXCHANGE, Messaging.NOTIFICATION_EXCHANGE_USER_ROUTING_KEY, dto)).toList());
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void sendSalonNotificationEvents(List<NotificationRequestDto> notificationRequestDtos) {
+		LOGGER.info("Queueing {} salon notification events", notificationRequestDtos.size());
+		outboxEventRepository.saveAll(notificationRequestDtos.stream().map(dto -> toOutboxEvent(
+				Messaging.NOTIFICATION_EXCHANGE, Messaging.NOTIFICATION_EXCHANGE_SALON_ROUTING_KEY, dto)).toList());
+	}
+
+	private void enqueue(String exchange, String routingKey, Object payload) {
+		outboxEventRepository.save(toOutboxEvent(exchange, routingKey, payload));
+	}
+
+	private OutboxEvent toOutboxEvent(String exchange, String routingKey, Object payload) {
+		// Serialize with the same converter the relay's RabbitTemplate would use
+		Message message = jackson2JsonMessageConverter.toMessage(payload, new MessageProperties());
+
+		OutboxEvent event = new OutboxEvent();
+		event.setExchange(exchange);
+		event.setRoutingKey(routingKey);
+		event.setPayloadType(
+				message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME));
+		event.setPayload(new String(message.getBody(), StandardCharsets.UTF_8));
+		return event;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.kandarp.salon.booking.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kandarp.salon.booking.entity.OutboxEvent;
+import com.kandarp.salon.booking.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes outbox events to RabbitMQ in batches. A batch stays locked in the
+ * database until the broker has confirmed every message of it, and is only
+ * then marked as published, so events are delivered at least once even if
+ * the broker or this node fails in between.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final RabbitTemplate rabbitTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${booking.outbox.batch-size}")
+	private int batchSize;
+
+	@Value("${booking.outbox.confirm-timeout}")
+	private Duration confirmTimeout;
+
+	@Value("${booking.outbox.retention}")
+	private Duration retention;
+
+	@Scheduled(fixedDelayString = "${booking.outbox.interval}")
+	public void relay() {
+		try {
+			int published;
+			do {
+				published = transactionTemplate.execute(status -> publishBatch());
+			} while (published == batchSize);
+		} catch (AmqpException e) {
+			LOGGER.warn("Publishing outbox events failed, retrying on the next run: {}", e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${booking.outbox.cleanup-interval}")
+	public void deletePublished() {
+		int deleted = transactionTemplate
+				.execute(status -> outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+		if (deleted > 0) {
+			LOGGER.info("Deleted {} published outbox events", deleted);
+		}
+	}
+
+	private int publishBatch() {
+		List<OutboxEvent> events = outboxEventRepository.lockUnpublished(batchSize);
+		if (events.isEmpty()) {
+			return 0;
+		}
+
+		rabbitTemplate.invoke(operations -> {
+			for (OutboxEvent event : events) {
+				operations.send(event.getExchange(), event.getRoutingKey(), toMessage(event));
+			}
+			operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+			return null;
+		});
+
+		outboxEventRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+		LOGGER.debug("Published {} outbox events", events.size());
+		return events.size();
+	}
+
+	private static Message toMessage(OutboxEvent event) {
+		MessageProperties properties = new MessageProperties();
+		properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		properties.setContentEncoding(StandardCharsets.UTF_8.name());
+		properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getPayloadType());
+		properties.setMessageId("booking-outbox-" + event.getId());
+		return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+	}
+}
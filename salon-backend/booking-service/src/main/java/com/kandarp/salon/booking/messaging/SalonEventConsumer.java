@@ -0,0 +1,22 @@
+package com.kandarp.salon.booking.messaging;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.kandarp.salon.booking.service.view.BookingViewStore;
+import com.kandarp.salon.shared.constant.Messaging;
+import com.kandarp.salon.shared.salon.dto.SalonUpdatedEventDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SalonEventConsumer {
+
+	private final BookingViewStore bookingViewStore;
+
+	@RabbitListener(queues = Messaging.BOOKING_SALON_UPDATE_QUEUE)
+	public void salonUpdateListener(SalonUpdatedEventDto salonUpdatedEventDto) {
+		bookingViewStore.applySalonUpdate(salonUpdatedEventDto);
+	}
+}
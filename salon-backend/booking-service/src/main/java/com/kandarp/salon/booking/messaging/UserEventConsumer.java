@@ -0,0 +1,22 @@
+package com.kandarp.salon.booking.messaging;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.kandarp.salon.booking.service.view.BookingViewStore;
+import com.kandarp.salon.shared.constant.Messaging;
+import com.kandarp.salon.shared.user.dto.UserUpdatedEventDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class UserEventConsumer {
+
+	private final BookingViewStore bookingViewStore;
+
+	@RabbitListener(queues = Messaging.BOOKING_USER_UPDATE_QUEUE)
+	public void userUpdateListener(UserUpdatedEventDto userUpdatedEventDto) {
+		bookingViewStore.applyCustomerUpdate(userUpdatedEventDto);
+	}
+}
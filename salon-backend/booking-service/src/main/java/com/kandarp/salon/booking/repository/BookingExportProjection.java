@@ -0,0 +1,36 @@
+package com.kandarp.salon.booking.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.kandarp.salon.booking.entity.ServiceSnapshot;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+
+/**
+ * One exported booking with the customer and service details of its view.
+ * The view columns are null for bookings that were never read since the
+ * read model was introduced.
+ */
+public interface BookingExportProjection {
+
+	Long getId();
+
+	LocalDateTime getStartTime();
+
+	LocalDateTime getEndTime();
+
+	BookingStatus getStatus();
+
+	BigDecimal getTotalPrice();
+
+	String getCustomerUserId();
+
+	String getCustomerFirstName();
+
+	String getCustomerLastName();
+
+	String getCustomerEmail();
+
+	List<ServiceSnapshot> getServices();
+}
@@ -1,13 +1,143 @@
 package com.kandarp.salon.booking.repository;
 
 import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 	
 	List<Booking> findByCustomerUserId(String customerUserId);
 
 	List<Booking> findBySalonId(Long salonId);
-}
\ No newline at end of file
+
+	/**
+	 * Bookings of the salon that overlap [from, to), served by the
+	 * (salon_id, start_time, id, end_time) index, which also filters on the
+	 * end time.
+	 */
+	List<Booking> findBySalonIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTime(Long salonId, LocalDateTime to,
+			LocalDateTime from);
+
+	@Query("select b.id as id, b.startTime as startTime, b.endTime as endTime from Booking b "
+			+ "where b.salonId = :salonId and b.status in :statuses and b.startTime < :to and b.endTime > :from")
+	List<BookingSlotProjection> findSlotsBySalonIdAndRange(@Param("salonId") Long salonId,
+			@Param("statuses") Collection<BookingStatus> statuses, @Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to);
+
+	/*
+	 * Keyset pages in (start_time, id) order, served without a sort by the
+	 * (customer_user_id, start_time, id) and (salon_id, start_time, id, end_time)
+	 * indexes. The first page has no cursor; every following page starts
+	 * strictly after the last row of the previous one, so deep pages cost the
+	 * same as the first.
+	 */
+
+	List<Booking> findByCustomerUserIdOrderByStartTimeAscIdAsc(String customerUserId, Limit limit);
+
+	@Query("select b from Booking b where b.customerUserId = :customerUserId "
+			+ "and (b.startTime > :startTime or (b.startTime = :startTime and b.id > :id)) "
+			+ "order by b.startTime, b.id")
+	List<Booking> findByCustomerUserIdAfter(@Param("customerUserId") String customerUserId,
+			@Param("startTime") LocalDateTime startTime, @Param("id") Long id, Limit limit);
+
+	List<Booking> findBySalonIdOrderByStartTimeAscIdAsc(Long salonId, Limit limit);
+
+	@Query("select b from Booking b where b.salonId = :salonId "
+			+ "and (b.startTime > :startTime or (b.startTime = :startTime and b.id > :id)) "
+			+ "order by b.startTime, b.id")
+	List<Booking> findBySalonIdAfter(@Param("salonId") Long salonId, @Param("startTime") LocalDateTime startTime,
+			@Param("id") Long id, Limit limit);
+
+	List<Booking> findBySalonIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeAscIdAsc(Long salonId,
+			LocalDateTime to, LocalDateTime from, Limit limit);
+
+	@Query("select b from Booking b where b.salonId = :salonId and b.startTime < :to and b.endTime > :from "
+			+ "and (b.startTime > :startTime or (b.startTime = :startTime and b.id > :id)) "
+			+ "order by b.startTime, b.id")
+	List<Booking> findBySalonIdAndRangeAfter(@Param("salonId") Long salonId, @Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to, @Param("startTime") LocalDateTime startTime, @Param("id") Long id,
+			Limit limit);
+
+	/**
+	 * Per-day totals of the bookings starting in [from, to), aggregated over the
+	 * (salon_id, start_time, id, end_time) index without loading entities. Booked
+	 * minutes only count bookings that still hold their slot.
+	 */
+	@Query(value = "select date(b.start_time) as day, count(*) as bookings, "
+			+ "coalesce(sum(case when b.status = 'CONFIRMED' then b.total_price end), 0) as confirmedRevenue, "
+			+ "sum(case when b.status = 'CANCELLED' then 1 else 0 end) as cancellations, "
+			+ "sum(case when b.status in ('PENDING', 'CONFIRMED') "
+			+ "then timestampdiff(minute, b.start_time, b.end_time) else 0 end) as bookedMinutes "
+			+ "from bookings b where b.salon_id = :salonId and b.start_time >= :from and b.start_time < :to "
+			+ "group by date(b.start_time)", nativeQuery = true)
+	List<DailyBookingStatsProjection> aggregateDailyStats(@Param("salonId") Long salonId,
+			@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+	/**
+	 * Oldest bookings in the given status created before the cutoff, served by
+	 * the (status, created_at) index.
+	 */
+	@Query("select b.id as id, b.salonId as salonId, b.startTime as startTime from Booking b "
+			+ "where b.status = :status and b.createdAt < :createdBefore order by b.createdAt")
+	List<PendingBookingProjection> findByStatusCreatedBefore(@Param("status") BookingStatus status,
+			@Param("createdBefore") LocalDateTime createdBefore, Limit limit);
+
+	/**
+	 * Moves the given bookings to a new status if they are still in the
+	 * expected one and returns how many were changed.
+	 */
+	@Modifying
+	@Query("update Booking b set b.status = :status where b.id in :ids and b.status = :expectedStatus")
+	int updateStatus(@Param("ids") Collection<Long> ids, @Param("expectedStatus") BookingStatus expectedStatus,
+			@Param("status") BookingStatus status);
+
+	/**
+	 * The booking, locked until the transaction ends. A locking read, so it
+	 * sees the latest committed status whatever the transaction read before.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select b from Booking b where b.id = :id")
+	Optional<Booking> lockById(@Param("id") Long id);
+
+	/**
+	 * Bookings among the given ids that are in the given status, locked until
+	 * the transaction ends so that their status cannot change underneath.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select b from Booking b where b.id in :ids and b.status = :status")
+	List<Booking> lockByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") BookingStatus status);
+
+	/**
+	 * Every booking of the salon in (start_time, id) order, for exports. A fetch
+	 * size of Integer.MIN_VALUE makes the MySQL driver stream rows one at a
+	 * time instead of buffering the whole result; the stream must be consumed
+	 * and closed inside a transaction.
+	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("select b.id as id, b.startTime as startTime, b.endTime as endTime, b.status as status, "
+			+ "b.totalPrice as totalPrice, b.customerUserId as customerUserId, "
+			+ "v.customerFirstName as customerFirstName, v.customerLastName as customerLastName, "
+			+ "v.customerEmail as customerEmail, v.services as services "
+			+ "from Booking b left join BookingView v on v.bookingId = b.id "
+			+ "where b.salonId = :salonId order by b.startTime, b.id")
+	Stream<BookingExportProjection> streamExportBySalonId(@Param("salonId") Long salonId);
+}
@@ -0,0 +1,12 @@
+package com.kandarp.salon.booking.repository;
+
+import java.time.LocalDateTime;
+
+public interface BookingSlotProjection {
+
+	Long getId();
+
+	LocalDateTime getStartTime();
+
+	LocalDateTime getEndTime();
+}
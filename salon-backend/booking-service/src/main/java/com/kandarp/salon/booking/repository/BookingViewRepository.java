@@ -0,0 +1,30 @@
+package com.kandarp.salon.booking.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kandarp.salon.booking.entity.BookingView;
+
+public interface BookingViewRepository extends JpaRepository<BookingView, Long> {
+
+	@Modifying
+	@Query("update BookingView v set v.salonName = :salonName, v.salonAddress = :address, v.salonCity = :city, "
+			+ "v.salonState = :state, v.salonZipcode = :zipcode, v.salonContactNumber = :contactNumber "
+			+ "where v.salonId = :salonId")
+	int updateSalonDetails(@Param("salonId") Long salonId, @Param("salonName") String salonName,
+			@Param("address") String address, @Param("city") String city, @Param("state") String state,
+			@Param("zipcode") String zipcode, @Param("contactNumber") String contactNumber);
+
+	/**
+	 * Refreshes the customer details of every view of the customer's bookings,
+	 * found through the (customer_user_id, start_time, id) index of bookings.
+	 */
+	@Modifying
+	@Query(value = "update booking_views v join bookings b on b.id = v.booking_id "
+			+ "set v.customer_first_name = :firstName, v.customer_last_name = :lastName, v.customer_email = :email "
+			+ "where b.customer_user_id = :customerUserId", nativeQuery = true)
+	int updateCustomerDetails(@Param("customerUserId") String customerUserId, @Param("firstName") String firstName,
+			@Param("lastName") String lastName, @Param("email") String email);
+}
@@ -0,0 +1,20 @@
+package com.kandarp.salon.booking.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Booking totals of one salon on one day, aggregated in the database.
+ */
+public interface DailyBookingStatsProjection {
+
+	LocalDate getDay();
+
+	Long getBookings();
+
+	BigDecimal getConfirmedRevenue();
+
+	Long getCancellations();
+
+	Long getBookedMinutes();
+}
@@ -0,0 +1,50 @@
+package com.kandarp.salon.booking.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kandarp.salon.booking.entity.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+	/**
+	 * Claims the key for a new request. Returns 0 if the key is already taken.
+	 */
+	@Modifying
+	@Query(value = "insert ignore into idempotency_keys (customer_user_id, idempotency_key, request_hash, created_at) "
+			+ "values (:customerUserId, :idempotencyKey, :requestHash, :createdAt)", nativeQuery = true)
+	int insertIfAbsent(@Param("customerUserId") String customerUserId, @Param("idempotencyKey") String idempotencyKey,
+			@Param("requestHash") String requestHash, @Param("createdAt") LocalDateTime createdAt);
+
+	/**
+	 * Takes over a key whose request has been running since before
+	 * {@code startedBefore}, i.e. whose node most likely died. Returns 0 if the
+	 * request completed or is still considered running.
+	 */
+	@Modifying
+	@Query("update IdempotencyRecord r set r.createdAt = :createdAt where r.customerUserId = :customerUserId "
+			+ "and r.idempotencyKey = :idempotencyKey and r.requestHash = :requestHash and r.response is null "
+			+ "and r.createdAt < :startedBefore")
+	int takeOverAbandoned(@Param("customerUserId") String customerUserId,
+			@Param("idempotencyKey") String idempotencyKey, @Param("requestHash") String requestHash,
+			@Param("startedBefore") LocalDateTime startedBefore, @Param("createdAt") LocalDateTime createdAt);
+
+	@Modifying
+	@Query("update IdempotencyRecord r set r.response = :response where r.customerUserId = :customerUserId "
+			+ "and r.idempotencyKey = :idempotencyKey")
+	void storeResponse(@Param("customerUserId") String customerUserId,
+			@Param("idempotencyKey") String idempotencyKey, @Param("response") String response);
+
+	@Modifying
+	@Query("delete from IdempotencyRecord r where r.customerUserId = :customerUserId "
+			+ "and r.idempotencyKey = :idempotencyKey and r.response is null")
+	void release(@Param("customerUserId") String customerUserId, @Param("idempotencyKey") String idempotencyKey);
+
+	@Modifying
+	@Query("delete from IdempotencyRecord r where r.createdAt < :createdBefore")
+	int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -0,0 +1,31 @@
+package com.kandarp.salon.booking.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kandarp.salon.booking.entity.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * Oldest unpublished events, locked until the transaction ends. Rows locked
+	 * by a relay on another node are skipped instead of waited for.
+	 */
+	@Query(value = "select * from outbox_events where published_at is null order by id limit :limit "
+			+ "for update skip locked", nativeQuery = true)
+	List<OutboxEvent> lockUnpublished(@Param("limit") int limit);
+
+	@Modifying
+	@Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+	void markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+	@Modifying
+	@Query("delete from OutboxEvent e where e.publishedAt < :publishedBefore")
+	int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
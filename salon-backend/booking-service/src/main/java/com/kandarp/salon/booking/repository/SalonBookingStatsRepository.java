@@ -0,0 +1,45 @@
+package com.kandarp.salon.booking.repository;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kandarp.salon.booking.entity.SalonBookingStats;
+
+public interface SalonBookingStatsRepository extends JpaRepository<SalonBookingStats, Long> {
+
+	/**
+	 * Adds the given deltas to the salon's totals. The update is a single
+	 * statement so concurrent bookings of the same salon never lose an
+	 * increment. A salon without a row is left alone: its totals are seeded
+	 * from the bookings table, this booking included, when they are first read.
+	 */
+	@Modifying
+	@Query(value = "update salon_booking_stats set total_bookings = total_bookings + :bookings, "
+			+ "cancelled_bookings = cancelled_bookings + :cancelled, "
+			+ "total_earnings = total_earnings + :earnings, total_refund = total_refund + :refund "
+			+ "where salon_id = :salonId", nativeQuery = true)
+	void addDeltas(@Param("salonId") Long salonId, @Param("bookings") long bookings,
+			@Param("cancelled") long cancelled, @Param("earnings") BigDecimal earnings,
+			@Param("refund") BigDecimal refund);
+
+	/**
+	 * Creates the salon's row from its lifetime totals in the bookings table
+	 * unless it exists. The select takes shared locks on the salon's bookings, so
+	 * a booking still being written is waited for and counted, and one written
+	 * later waits for the row and adds its delta on top.
+	 */
+	@Modifying
+	@Query(value = "insert into salon_booking_stats "
+			+ "(salon_id, total_bookings, cancelled_bookings, total_earnings, total_refund) "
+			+ "select :salonId, count(*), "
+			+ "coalesce(sum(case when b.status = 'CANCELLED' then 1 else 0 end), 0), "
+			+ "coalesce(sum(b.total_price), 0), "
+			+ "coalesce(sum(case when b.status = 'CANCELLED' then b.total_price end), 0) "
+			+ "from bookings b where b.salon_id = :salonId "
+			+ "on duplicate key update salon_id = salon_booking_stats.salon_id", nativeQuery = true)
+	void seed(@Param("salonId") Long salonId);
+}
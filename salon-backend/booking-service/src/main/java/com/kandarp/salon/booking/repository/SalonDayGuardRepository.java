@@ -0,0 +1,33 @@
+package com.kandarp.salon.booking.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kandarp.salon.booking.entity.SalonDayGuard;
+
+public interface SalonDayGuardRepository extends JpaRepository<SalonDayGuard, SalonDayGuard.Key> {
+
+	/**
+	 * Creates the guard row if it is missing and takes an exclusive lock on it
+	 * either way. Unlike INSERT IGNORE, which leaves a shared lock on an
+	 * existing row, this cannot deadlock with another node upgrading to FOR
+	 * UPDATE on the same salon day.
+	 */
+	@Modifying
+	@Query(value = "insert into salon_day_guards (salon_id, booking_date, version) values (:salonId, :bookingDate, 0) on duplicate key update version = version", nativeQuery = true)
+	void insertOrLock(@Param("salonId") Long salonId, @Param("bookingDate") LocalDate bookingDate);
+
+	/**
+	 * Locks the guard row until the transaction ends and returns its version.
+	 */
+	@Query(value = "select version from salon_day_guards where salon_id = :salonId and booking_date = :bookingDate for update", nativeQuery = true)
+	long lockVersion(@Param("salonId") Long salonId, @Param("bookingDate") LocalDate bookingDate);
+
+	@Modifying
+	@Query(value = "update salon_day_guards set version = version + 1 where salon_id = :salonId and booking_date = :bookingDate", nativeQuery = true)
+	void incrementVersion(@Param("salonId") Long salonId, @Param("bookingDate") LocalDate bookingDate);
+}
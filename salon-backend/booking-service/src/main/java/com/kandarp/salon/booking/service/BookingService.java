@@ -1,28 +1,61 @@
 package com.kandarp.salon.booking.service;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.kandarp.salon.payment.dto.PaymentLinkResponseDto;
+import com.kandarp.salon.shared.booking.constant.BookingExportFormat;
 import com.kandarp.salon.shared.booking.constant.BookingStatus;
+import com.kandarp.salon.shared.booking.constant.ReportBucket;
+import com.kandarp.salon.shared.booking.dto.BookingAvailabilityDto;
+import com.kandarp.salon.shared.booking.dto.BookingPageDto;
 import com.kandarp.salon.shared.booking.dto.BookingRequestDto;
 import com.kandarp.salon.shared.booking.dto.BookingResponseDto;
+import com.kandarp.salon.shared.booking.dto.BulkBookingRequestDto;
+import com.kandarp.salon.shared.booking.dto.BulkBookingResponseDto;
+import com.kandarp.salon.shared.booking.dto.SalonBookingAnalyticsDto;
 import com.kandarp.salon.shared.booking.dto.SalonBookingReportDto;
 
 public interface BookingService {
-	PaymentLinkResponseDto createBooking(String customerUserId, BookingRequestDto dto);
+	PaymentLinkResponseDto createBooking(String customerUserId, BookingRequestDto dto, String idempotencyKey);
+
+	BulkBookingResponseDto createBookings(String customerUserId, BulkBookingRequestDto dto, String idempotencyKey);
 
 	BookingResponseDto getBookingById(Long id);
 
 	List<BookingResponseDto> getBookingsByCustomer(String customerUserId);
 
+	BookingPageDto getBookingPageByCustomer(String customerUserId, String cursor, Integer size);
+
 	BookingResponseDto updateBookingStatus(Long id, BookingStatus status, String ownerUserId);
 
 	void confirmBooking(Long id);
 
+	int confirmBookings(Collection<Long> ids);
+
 	List<BookingResponseDto> getBookingsBySalon(String ownerUserId);
 
+	StreamingResponseBody exportBookingsBySalon(String ownerUserId, BookingExportFormat format);
+
+	SseEmitter subscribeToSalonFeed(String ownerUserId);
+
+	BookingPageDto getBookingPageBySalon(String ownerUserId, String cursor, Integer size);
+
 	SalonBookingReportDto getSalonBookingReport(String ownerUserId);
 
+	SalonBookingAnalyticsDto getSalonBookingAnalytics(String ownerUserId, LocalDate from, LocalDate to,
+			ReportBucket bucket);
+
 	List<BookingResponseDto> getBookingsByDate(LocalDate date, String ownerUserId);
+
+	BookingPageDto getBookingPageByDate(LocalDate date, String ownerUserId, String cursor, Integer size);
+
+	List<BookingResponseDto> getBookingsByDateRange(LocalDate from, LocalDate to, String ownerUserId);
+
+	BookingAvailabilityDto getAvailability(Long salonId, LocalDate date, Long durationMinutes, Set<Long> serviceIds);
 }
@@ -1,5 +1,8 @@
 package com.kandarp.salon.booking.service.client;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,5 +24,8 @@ public interface SalonServiceClient {
 	@GetMapping("/api/v1/salons/owner/{ownerId}")
 	public ResponseEntity<SalonResponseDto> getSalonByOwnerId(@PathVariable String ownerId);
 	
+	@GetMapping("/api/v1/salons/list/{ids}")
+	public ResponseEntity<List<SalonResponseDto>> getSalonsByIds(@PathVariable Set<Long> ids);
+	
 
 }
@@ -0,0 +1,132 @@
+package com.kandarp.salon.booking.service.expiry;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.booking.repository.BookingRepository;
+import com.kandarp.salon.booking.repository.PendingBookingProjection;
+import com.kandarp.salon.booking.service.feed.BookingFeedPublisher;
+import com.kandarp.salon.booking.service.slot.BookingSlotIndex;
+import com.kandarp.salon.booking.service.slot.SalonDayLocks;
+import com.kandarp.salon.shared.booking.constant.BookingFeedEventType;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Expires bookings that stayed PENDING longer than the hold window, i.e. whose
+ * checkout was abandoned, and releases their slots. Each batch runs in its own
+ * transaction: the affected salon days are locked, the batch is moved to
+ * EXPIRED with one bulk update, and the salon days are advanced so that every
+ * node reloads them. Owner dashboards get a status change per expired booking.
+ */
+@Component
+public class PendingBookingSweeper {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PendingBookingSweeper.class);
+
+	private final BookingRepository bookingRepository;
+	private final SalonDayLocks salonDayLocks;
+	private final BookingSlotIndex bookingSlotIndex;
+	private final BookingFeedPublisher bookingFeedPublisher;
+	private final TransactionTemplate transactionTemplate;
+
+	private final DistributionSummary expiredPerRun;
+	private final Timer sweepTimer;
+
+	@Value("${booking.expiry.hold-window}")
+	private Duration holdWindow;
+
+	@Value("${booking.expiry.batch-size}")
+	private int batchSize;
+
+	@Value("${booking.expiry.max-batches}")
+	private int maxBatches;
+
+	public PendingBookingSweeper(BookingRepository bookingRepository, SalonDayLocks salonDayLocks,
+			BookingSlotIndex bookingSlotIndex, BookingFeedPublisher bookingFeedPublisher,
+			TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+		this.bookingRepository = bookingRepository;
+		this.salonDayLocks = salonDayLocks;
+		this.bookingSlotIndex = bookingSlotIndex;
+		this.bookingFeedPublisher = bookingFeedPublisher;
+		this.transactionTemplate = transactionTemplate;
+		this.expiredPerRun = DistributionSummary.builder("booking.expiry.expired")
+				.description("Unpaid bookings expired per sweep").baseUnit("bookings").register(meterRegistry);
+		this.sweepTimer = Timer.builder("booking.expiry.sweep").description("Duration of a pending booking sweep")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${booking.expiry.interval}", initialDelayString = "${booking.expiry.interval}")
+	public void sweep() {
+		LocalDateTime createdBefore = LocalDateTime.now().minus(holdWindow);
+
+		int expired = sweepTimer.record(() -> {
+			int total = 0;
+			for (int batch = 0; batch < maxBatches; batch++) {
+				BatchResult result = transactionTemplate.execute(status -> expireBatch(createdBefore));
+				total += result.expired();
+				if (result.selected() < batchSize) {
+					break;
+				}
+			}
+			return total;
+		});
+
+		expiredPerRun.record(expired);
+		if (expired > 0) {
+			LOGGER.info("Expired {} unpaid bookings created before {}", expired, createdBefore);
+		}
+	}
+
+	private BatchResult expireBatch(LocalDateTime createdBefore) {
+		List<PendingBookingProjection> bookings = bookingRepository.findByStatusCreatedBefore(BookingStatus.PENDING,
+				createdBefore, Limit.of(batchSize));
+		if (bookings.isEmpty()) {
+			return new BatchResult(0, 0);
+		}
+
+		// Lock the salon days in a fixed order so that concurrent sweeps cannot
+		// deadlock each other
+		SortedMap<Long, SortedMap<LocalDate, Long>> dayVersions = new TreeMap<>();
+		for (PendingBookingProjection booking : bookings) {
+			dayVersions.computeIfAbsent(booking.getSalonId(), salonId -> new TreeMap<>())
+					.put(booking.getStartTime().toLocalDate(), null);
+		}
+		dayVersions.forEach((salonId, dates) -> dates.replaceAll((date, version) -> salonDayLocks.lock(salonId, date)));
+
+		// Only bookings still pending once the days are locked expire; a payment
+		// may have confirmed some of them since they were selected
+		List<Booking> pending = bookingRepository.lockByIdInAndStatus(
+				bookings.stream().map(PendingBookingProjection::getId).toList(), BookingStatus.PENDING);
+		int expired = pending.isEmpty() ? 0
+				: bookingRepository.updateStatus(pending.stream().map(Booking::getId).toList(), BookingStatus.PENDING,
+						BookingStatus.EXPIRED);
+		pending.forEach(booking -> bookingFeedPublisher.publish(booking, BookingFeedEventType.STATUS_CHANGED,
+				BookingStatus.EXPIRED));
+
+		dayVersions.forEach((salonId, dates) -> dates.forEach((date, version) -> {
+			salonDayLocks.advance(salonId, date, version);
+			bookingSlotIndex.evict(salonId, date);
+		}));
+		return new BatchResult(bookings.size(), expired);
+	}
+
+	private record BatchResult(int selected, int expired) {
+	}
+}
@@ -0,0 +1,158 @@
+package com.kandarp.salon.booking.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.kandarp.salon.booking.entity.ServiceSnapshot;
+import com.kandarp.salon.booking.repository.BookingExportProjection;
+import com.kandarp.salon.booking.repository.BookingRepository;
+import com.kandarp.salon.shared.booking.constant.BookingExportFormat;
+
+/**
+ * Writes the booking history of a salon row by row while the rows are read
+ * from a streamed result set, so memory stays flat however long the history
+ * is. Customer and service details come from the booking_views read model;
+ * no remote call is made per row.
+ */
+@Component
+public class BookingExporter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BookingExporter.class);
+
+	private static final String CSV_HEADER = "id,start_time,end_time,status,total_price,customer_user_id,"
+			+ "customer_first_name,customer_last_name,customer_email,services";
+
+	private static final int FLUSH_EVERY = 1000;
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final BookingRepository bookingRepository;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+
+	public BookingExporter(BookingRepository bookingRepository, PlatformTransactionManager transactionManager) {
+		this.bookingRepository = bookingRepository;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+	}
+
+	public void export(Long salonId, BookingExportFormat format, OutputStream outputStream) {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		long rows = readOnlyTransactionTemplate.execute(status -> {
+			try (Stream<BookingExportProjection> bookings = bookingRepository.streamExportBySalonId(salonId)) {
+				return format == BookingExportFormat.CSV ? writeCsv(bookings, writer) : writeNdjson(bookings, writer);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		LOGGER.info("Exported {} bookings of salon {} as {}", rows, salonId, format);
+	}
+
+	private static long writeCsv(Stream<BookingExportProjection> bookings, Writer writer) throws IOException {
+		writer.write(CSV_HEADER);
+		writer.write('\n');
+		long rows = 0;
+		for (BookingExportProjection booking : (Iterable<BookingExportProjection>) bookings::iterator) {
+			writer.write(String.valueOf(booking.getId()));
+			writer.write(',');
+			writer.write(String.valueOf(booking.getStartTime()));
+			writer.write(',');
+			writer.write(String.valueOf(booking.getEndTime()));
+			writer.write(',');
+			writer.write(booking.getStatus().name());
+			writer.write(',');
+			writer.write(booking.getTotalPrice().toPlainString());
+			writer.write(',');
+			writeCsvField(writer, booking.getCustomerUserId());
+			writer.write(',');
+			writeCsvField(writer, booking.getCustomerFirstName());
+			writer.write(',');
+			writeCsvField(writer, booking.getCustomerLastName());
+			writer.write(',');
+			writeCsvField(writer, booking.getCustomerEmail());
+			writer.write(',');
+			writeCsvField(writer, serviceNames(booking.getServices()));
+			writer.write('\n');
+			if (++rows % FLUSH_EVERY == 0) {
+				writer.flush();
+			}
+		}
+		writer.flush();
+		return rows;
+	}
+
+	private static long writeNdjson(Stream<BookingExportProjection> bookings, Writer writer) throws IOException {
+		long rows = 0;
+		JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		for (BookingExportProjection booking : (Iterable<BookingExportProjection>) bookings::iterator) {
+			generator.writeStartObject();
+			generator.writeNumberField("id", booking.getId());
+			generator.writeStringField("startTime", String.valueOf(booking.getStartTime()));
+			generator.writeStringField("endTime", String.valueOf(booking.getEndTime()));
+			generator.writeStringField("status", booking.getStatus().name());
+			generator.writeNumberField("totalPrice", booking.getTotalPrice());
+			generator.writeStringField("customerUserId", booking.getCustomerUserId());
+			generator.writeStringField("customerFirstName", booking.getCustomerFirstName());
+			generator.writeStringField("customerLastName", booking.getCustomerLastName());
+			generator.writeStringField("customerEmail", booking.getCustomerEmail());
+			generator.writeArrayFieldStart("services");
+			if (booking.getServices() != null) {
+				for (ServiceSnapshot service : booking.getServices()) {
+					generator.writeStartObject();
+					generator.writeNumberField("id", service.id());
+					generator.writeStringField("name", service.name());
+					generator.writeEndObject();
+				}
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+			if (++rows % FLUSH_EVERY == 0) {
+				generator.flush();
+			}
+		}
+		generator.close();
+		writer.flush();
+		return rows;
+	}
+
+	private static String serviceNames(List<ServiceSnapshot> services) {
+		if (services == null) {
+			return null;
+		}
+		return services.stream().map(ServiceSnapshot::name).collect(Collectors.joining("; "));
+	}
+
+	/**
+	 * Quotes the value if it contains a separator, quote or line break, as in
+	 * RFC 4180. Null is written as an empty field.
+	 */
+	private static void writeCsvField(Writer writer, String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+}
@@ -0,0 +1,56 @@
+package com.kandarp.salon.booking.service.feed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.shared.booking.constant.BookingFeedEventType;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+import com.kandarp.salon.shared.booking.dto.BookingFeedEventDto;
+import com.kandarp.salon.shared.constant.Messaging;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Broadcasts booking changes to every booking-service instance once the
+ * transaction that made them commits, so that each instance can push them to
+ * the owner dashboards connected to it. The feed is best effort: a dashboard
+ * that misses an event catches up on its next full load.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingFeedPublisher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BookingFeedPublisher.class);
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final RabbitTemplate rabbitTemplate;
+
+	public void publish(Booking booking, BookingFeedEventType type) {
+		publish(booking, type, booking.getStatus());
+	}
+
+	/**
+	 * Like {@link #publish(Booking, BookingFeedEventType)}, for a booking whose
+	 * status was changed by a bulk update and not on the entity.
+	 */
+	public void publish(Booking booking, BookingFeedEventType type, BookingStatus status) {
+		applicationEventPublisher.publishEvent(new BookingFeedEventDto(type, booking.getId(), booking.getSalonId(),
+				status, booking.getStartTime(), booking.getEndTime()));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void broadcast(BookingFeedEventDto event) {
+		try {
+			rabbitTemplate.convertAndSend(Messaging.BOOKING_FEED_EXCHANGE, "", event);
+		} catch (AmqpException e) {
+			LOGGER.warn("Broadcasting {} of booking {} failed: {}", event.getType(), event.getBookingId(),
+					e.getMessage());
+		}
+	}
+}
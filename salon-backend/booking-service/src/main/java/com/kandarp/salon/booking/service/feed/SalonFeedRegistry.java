@@ -0,0 +1,157 @@
+package com.kandarp.salon.booking.service.feed;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.kandarp.salon.shared.booking.dto.BookingFeedEventDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Open Server-Sent Events connections of owner dashboards on this instance,
+ * by salon. An idle connection is an async request without a thread, so many
+ * of them cost little more than their socket. A periodic heartbeat keeps
+ * proxies from closing idle connections and drops the ones whose client went
+ * away.
+ * <p>
+ * Events are queued per connection and written by a virtual thread, so the
+ * caller never waits on a client's socket. A connection whose queue is full
+ * has fallen behind and is closed; its dashboard reconnects and reloads.
+ */
+@Component
+public class SalonFeedRegistry {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SalonFeedRegistry.class);
+
+	private final Map<Long, Set<FeedConnection>> connectionsBySalon = new ConcurrentHashMap<>();
+	private final AtomicInteger connections = new AtomicInteger();
+	private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Counter slowConnections;
+
+	@Value("${booking.feed.timeout}")
+	private Duration timeout;
+
+	@Value("${booking.feed.send-queue-size}")
+	private int sendQueueSize;
+
+	public SalonFeedRegistry(MeterRegistry meterRegistry) {
+		Gauge.builder("booking.feed.connections", connections, AtomicInteger::get)
+				.description("Open booking feed connections").register(meterRegistry);
+		this.slowConnections = Counter.builder("booking.feed.slow.connections")
+				.description("Booking feed connections closed because their client fell behind")
+				.register(meterRegistry);
+	}
+
+	public SseEmitter subscribe(Long salonId) {
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		FeedConnection connection = new FeedConnection(salonId, emitter, new ArrayBlockingQueue<>(sendQueueSize));
+		connectionsBySalon.compute(salonId, (id, salonConnections) -> {
+			Set<FeedConnection> updated = salonConnections == null ? ConcurrentHashMap.newKeySet() : salonConnections;
+			updated.add(connection);
+			return updated;
+		});
+		connections.incrementAndGet();
+
+		Runnable remove = () -> remove(connection);
+		emitter.onCompletion(remove);
+		emitter.onTimeout(remove);
+		emitter.onError(error -> remove.run());
+		return emitter;
+	}
+
+	public void dispatch(BookingFeedEventDto event) {
+		Set<FeedConnection> salonConnections = connectionsBySalon.get(event.getSalonId());
+		if (salonConnections == null) {
+			return;
+		}
+		for (FeedConnection connection : salonConnections) {
+			enqueue(connection, SseEmitter.event().name(event.getType().name().toLowerCase())
+					.id(String.valueOf(event.getBookingId())).data(event));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${booking.feed.heartbeat-interval}")
+	public void heartbeat() {
+		connectionsBySalon.values().forEach(salonConnections -> salonConnections
+				.forEach(connection -> enqueue(connection, SseEmitter.event().comment("heartbeat"))));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		sendExecutor.shutdownNow();
+	}
+
+	private void enqueue(FeedConnection connection, SseEmitter.SseEventBuilder event) {
+		if (!connection.pending().offer(event)) {
+			// The client does not keep up; closing may block on its socket too
+			LOGGER.debug("Closing booking feed connection of salon {} that fell behind", connection.salonId());
+			slowConnections.increment();
+			remove(connection);
+			sendExecutor.execute(connection.emitter()::complete);
+			return;
+		}
+		if (connection.draining().compareAndSet(false, true)) {
+			sendExecutor.execute(() -> drain(connection));
+		}
+	}
+
+	/**
+	 * Writes the queued events of a connection until its queue is empty. Only
+	 * one drain runs per connection at a time, which keeps the events in order.
+	 */
+	private void drain(FeedConnection connection) {
+		do {
+			SseEmitter.SseEventBuilder event;
+			while ((event = connection.pending().poll()) != null) {
+				try {
+					connection.emitter().send(event);
+				} catch (IOException | IllegalStateException e) {
+					// The client went away; the connection stays marked as draining so
+					// that nothing is sent to it again
+					LOGGER.debug("Dropping booking feed connection: {}", e.getMessage());
+					remove(connection);
+					connection.pending().clear();
+					connection.emitter().completeWithError(e);
+					return;
+				}
+			}
+			connection.draining().set(false);
+		} while (!connection.pending().isEmpty() && connection.draining().compareAndSet(false, true));
+	}
+
+	private void remove(FeedConnection connection) {
+		connectionsBySalon.computeIfPresent(connection.salonId(), (id, salonConnections) -> {
+			if (salonConnections.remove(connection)) {
+				connections.decrementAndGet();
+			}
+			return salonConnections.isEmpty() ? null : salonConnections;
+		});
+	}
+
+	private record FeedConnection(Long salonId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> pending,
+			AtomicBoolean draining) {
+
+		private FeedConnection(Long salonId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> pending) {
+			this(salonId, emitter, pending, new AtomicBoolean());
+		}
+	}
+}
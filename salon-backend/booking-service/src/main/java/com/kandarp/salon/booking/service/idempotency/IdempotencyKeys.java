@@ -0,0 +1,223 @@
+package com.kandarp.salon.booking.service.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kandarp.salon.booking.entity.IdempotencyRecord;
+import com.kandarp.salon.booking.repository.IdempotencyRecordRepository;
+import com.kandarp.salon.shared.exception.ConflictException;
+import com.kandarp.salon.shared.exception.ValidationException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs a request at most once per customer and Idempotency-Key. The key is
+ * claimed in the idempotency_keys table before the request runs and the
+ * response is stored there once it completes, so a retry on any node gets
+ * the stored response back without running the request again. Duplicates
+ * arriving on the same node while the first one is still running wait for
+ * it and share its result. Keys are deleted once they are older than the
+ * TTL.
+ */
+@Component
+public class IdempotencyKeys {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyKeys.class);
+
+	private static final int MAX_KEY_LENGTH = 128;
+	private static final String IN_PROGRESS = "Request with this Idempotency-Key is still being processed";
+
+	private final IdempotencyRecordRepository idempotencyRecordRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final Map<IdempotencyRecord.Key, InFlight> inFlight = new ConcurrentHashMap<>();
+
+	private final Counter storedReplays;
+	private final Counter coalescedReplays;
+
+	@Value("${booking.idempotency.ttl}")
+	private Duration ttl;
+
+	@Value("${booking.idempotency.abandon-after}")
+	private Duration abandonAfter;
+
+	public IdempotencyKeys(IdempotencyRecordRepository idempotencyRecordRepository,
+			TransactionTemplate transactionTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		this.idempotencyRecordRepository = idempotencyRecordRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.objectMapper = objectMapper;
+		this.storedReplays = Counter.builder("booking.idempotency.replays").tag("source", "stored")
+				.description("Requests answered with the stored response of an earlier request")
+				.register(meterRegistry);
+		this.coalescedReplays = Counter.builder("booking.idempotency.replays").tag("source", "in-flight")
+				.description("Requests that waited for a running duplicate and shared its response")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Runs the action, or returns the response of the earlier request made
+	 * with the same key. Without a key the action simply runs.
+	 *
+	 * @throws ValidationException if the key was used for a different request
+	 * @throws ConflictException   if the key's request is still running on
+	 *                             another node
+	 */
+	public <T> T execute(String customerUserId, String idempotencyKey, Object request, Class<T> responseType,
+			Supplier<T> action) {
+		if (idempotencyKey == null) {
+			return action.get();
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new ValidationException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters long");
+		}
+
+		IdempotencyRecord.Key key = new IdempotencyRecord.Key(customerUserId, idempotencyKey);
+		String requestHash = hash(request);
+
+		InFlight execution = new InFlight(requestHash, new CompletableFuture<>());
+		InFlight running = inFlight.putIfAbsent(key, execution);
+		if (running != null) {
+			checkSameRequest(running.requestHash(), requestHash);
+			T response = responseType.cast(await(running.result()));
+			coalescedReplays.increment();
+			return response;
+		}
+
+		try {
+			T response = executeOnce(customerUserId, idempotencyKey, requestHash, responseType, action);
+			execution.result().complete(response);
+			return response;
+		} catch (RuntimeException | Error e) {
+			execution.result().completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, execution);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${booking.idempotency.cleanup-interval}")
+	public void deleteExpired() {
+		int deleted = transactionTemplate
+				.execute(status -> idempotencyRecordRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl)));
+		if (deleted > 0) {
+			LOGGER.info("Deleted {} expired idempotency keys", deleted);
+		}
+	}
+
+	private <T> T executeOnce(String customerUserId, String idempotencyKey, String requestHash, Class<T> responseType,
+			Supplier<T> action) {
+		if (!claim(customerUserId, idempotencyKey, requestHash)) {
+			IdempotencyRecord record = idempotencyRecordRepository
+					.findById(new IdempotencyRecord.Key(customerUserId, idempotencyKey))
+					.orElseThrow(() -> new ConflictException(IN_PROGRESS));
+			checkSameRequest(record.getRequestHash(), requestHash);
+			if (record.getResponse() == null) {
+				throw new ConflictException(IN_PROGRESS);
+			}
+			storedReplays.increment();
+			return read(record.getResponse(), responseType);
+		}
+
+		T response;
+		try {
+			response = action.get();
+		} catch (RuntimeException | Error e) {
+			// Nothing was committed on behalf of the key, so let the client retry
+			transactionTemplate.executeWithoutResult(
+					status -> idempotencyRecordRepository.release(customerUserId, idempotencyKey));
+			throw e;
+		}
+
+		String json = write(response);
+		transactionTemplate.executeWithoutResult(
+				status -> idempotencyRecordRepository.storeResponse(customerUserId, idempotencyKey, json));
+		return response;
+	}
+
+	/**
+	 * Claims a new key, or takes over the key of the same request if the node
+	 * that claimed it has not completed it for longer than it could be
+	 * running.
+	 */
+	private boolean claim(String customerUserId, String idempotencyKey, String requestHash) {
+		LocalDateTime now = LocalDateTime.now();
+		return transactionTemplate.execute(status -> idempotencyRecordRepository.insertIfAbsent(customerUserId,
+				idempotencyKey, requestHash, now) == 1
+				|| idempotencyRecordRepository.takeOverAbandoned(customerUserId, idempotencyKey, requestHash,
+						now.minus(abandonAfter), now) == 1);
+	}
+
+	private static void checkSameRequest(String storedHash, String requestHash) {
+		if (!storedHash.equals(requestHash)) {
+			throw new ValidationException("Idempotency-Key was already used for a different request");
+		}
+	}
+
+	/**
+	 * SHA-256 of the request type and its JSON form.
+	 */
+	private String hash(Object request) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(request.getClass().getName().getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+		} catch (NoSuchAlgorithmException | JsonProcessingException e) {
+			throw new IllegalStateException("Could not hash request", e);
+		}
+	}
+
+	private String write(Object response) {
+		try {
+			return objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not store response", e);
+		}
+	}
+
+	private <T> T read(String json, Class<T> responseType) {
+		try {
+			return objectMapper.readValue(json, responseType);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not read stored response", e);
+		}
+	}
+
+	private static Object await(CompletableFuture<Object> result) {
+		try {
+			return result.join();
+		} catch (CompletionException | CancellationException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private record InFlight(String requestHash, CompletableFuture<Object> result) {
+	}
+}
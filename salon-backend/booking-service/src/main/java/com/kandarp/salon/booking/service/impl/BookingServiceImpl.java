@@ -1,32 +1,80 @@
 package com.kandarp.salon.booking.service.impl;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.booking.entity.SalonBookingStats;
 import com.kandarp.salon.booking.mapper.BookingMapper;
 import com.kandarp.salon.booking.messaging.NotificationEventProducer;
 import com.kandarp.salon.booking.repository.BookingRepository;
+import com.kandarp.salon.booking.repository.BookingSlotProjection;
+import com.kandarp.salon.booking.repository.DailyBookingStatsProjection;
+import com.kandarp.salon.booking.repository.SalonBookingStatsRepository;
 import com.kandarp.salon.booking.service.BookingService;
 import com.kandarp.salon.booking.service.client.PaymentServiceClient;
 import com.kandarp.salon.booking.service.client.SalonServiceClient;
 import com.kandarp.salon.booking.service.client.ServiceOfferingServiceClient;
 import com.kandarp.salon.booking.service.client.UserServiceClient;
+import com.kandarp.salon.booking.service.export.BookingExporter;
+import com.kandarp.salon.booking.service.feed.BookingFeedPublisher;
+import com.kandarp.salon.booking.service.feed.SalonFeedRegistry;
+import com.kandarp.salon.booking.service.idempotency.IdempotencyKeys;
+import com.kandarp.salon.booking.service.page.BookingCursor;
+import com.kandarp.salon.booking.service.report.BookingBucketRollup;
+import com.kandarp.salon.booking.service.slot.BookingSlotIndex;
+import com.kandarp.salon.booking.service.slot.SalonDayLocks;
+import com.kandarp.salon.booking.service.slot.SalonDaySlots;
+import com.kandarp.salon.booking.service.view.BookingViewStore;
 import com.kandarp.salon.notification.dto.NotificationRequestDto;
 import com.kandarp.salon.payment.dto.PaymentLinkResponseDto;
+import com.kandarp.salon.shared.booking.constant.BookingExportFormat;
+import com.kandarp.salon.shared.booking.constant.BookingFeedEventType;
 import com.kandarp.salon.shared.booking.constant.BookingStatus;
+import com.kandarp.salon.shared.booking.constant.RecurrenceFrequency;
+import com.kandarp.salon.shared.booking.constant.ReportBucket;
+import com.kandarp.salon.shared.booking.dto.BookingAvailabilityDto;
+import com.kandarp.salon.shared.booking.dto.BookingBucketDto;
+import com.kandarp.salon.shared.booking.dto.BookingPageDto;
+import com.kandarp.salon.shared.booking.dto.BookingRecurrenceDto;
 import com.kandarp.salon.shared.booking.dto.BookingRequestDto;
 import com.kandarp.salon.shared.booking.dto.BookingResponseDto;
+import com.kandarp.salon.shared.booking.dto.BookingSlotResultDto;
+import com.kandarp.salon.shared.booking.dto.BulkBookingRequestDto;
+import com.kandarp.salon.shared.booking.dto.BulkBookingResponseDto;
+import com.kandarp.salon.shared.booking.dto.SalonBookingAnalyticsDto;
 import com.kandarp.salon.shared.booking.dto.SalonBookingReportDto;
 import com.kandarp.salon.shared.constant.NotificationType;
+import com.kandarp.salon.shared.exception.ConflictException;
 import com.kandarp.salon.shared.exception.ValidationException;
 import com.kandarp.salon.shared.payment.dto.PaymentOrderRequestDto;
 import com.kandarp.salon.shared.salon.dto.SalonResponseDto;
@@ -40,6 +88,7 @@ import lombok.RequiredArgsConstructor;
 public class BookingServiceImpl implements BookingService {
 
 	private final BookingRepository bookingRepository;
+	private final SalonBookingStatsRepository salonBookingStatsRepository;
 
 	private final BookingMapper bookingMapper;
 
@@ -48,38 +97,53 @@ public class BookingServiceImpl implements BookingService {
 	private final UserServiceClient userServiceClient;
 	private final PaymentServiceClient paymentServiceClient;
 	private final NotificationEventProducer notificationEventProducer;
+	private final BookingSlotIndex bookingSlotIndex;
+	private final SalonDayLocks salonDayLocks;
+	private final ExecutorService downstreamCallExecutor;
+	private final TransactionTemplate transactionTemplate;
+	private final BookingViewStore bookingViewStore;
+	private final BookingExporter bookingExporter;
+	private final BookingFeedPublisher bookingFeedPublisher;
+	private final SalonFeedRegistry salonFeedRegistry;
+	private final IdempotencyKeys idempotencyKeys;
 
+	@Value("${booking.availability.slot-granularity}")
+	private Duration slotGranularity;
 
-	@Override
-	@Transactional
-	public PaymentLinkResponseDto createBooking(String customerUserId, BookingRequestDto dto) {
+	@Value("${booking.pagination.default-size}")
+	private int defaultPageSize;
 
-		// Validate customer
-		ResponseEntity<UserDto> customerResponse = userServiceClient.getUserByUserId(customerUserId);
-		UserDto customer = customerResponse.getBody();
+	@Value("${booking.pagination.max-size}")
+	private int maxPageSize;
 
-		// Fetch services
-		ResponseEntity<List<ServiceOfferingResponseDto>> response = serviceOfferingServiceClient
-				.getServiceOfferingByIds(dto.getServiceIds());
-		List<ServiceOfferingResponseDto> services = response.getBody();
+	@Value("${booking.range.max-days}")
+	private int maxRangeDays;
 
-		if (services.size() != dto.getServiceIds().size()) {
-			throw new ValidationException("One or more service IDs are invalid");
-		}
+	@Value("${booking.bulk.max-slots}")
+	private int maxBulkSlots;
 
-		// Verify all services belong to the same salon
-		Long salonId = services.stream().map(ServiceOfferingResponseDto::getSalonId).distinct().findFirst()
-				.orElseThrow(() -> new ValidationException("No services provided"));
-		if (services.stream().anyMatch(service -> !service.getSalonId().equals(salonId))) {
-			throw new ValidationException("All services must belong to the same salon");
-		}
+	@Override
+	public PaymentLinkResponseDto createBooking(String customerUserId, BookingRequestDto dto, String idempotencyKey) {
+		return idempotencyKeys.execute(customerUserId, idempotencyKey, dto, PaymentLinkResponseDto.class,
+				() -> placeBooking(customerUserId, dto));
+	}
 
-		// Fetch salon
-		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonById(salonId);
-		SalonResponseDto salon = salonResponse.getBody();
+	@Override
+	public BulkBookingResponseDto createBookings(String customerUserId, BulkBookingRequestDto dto,
+			String idempotencyKey) {
+		return idempotencyKeys.execute(customerUserId, idempotencyKey, dto, BulkBookingResponseDto.class,
+				() -> placeBookings(customerUserId, dto));
+	}
+
+	private PaymentLinkResponseDto placeBooking(String customerUserId, BookingRequestDto dto) {
+		BookingContext context = fetchBookingContext(customerUserId, dto.getServiceIds());
+		List<ServiceOfferingResponseDto> services = context.services();
+		SalonResponseDto salon = context.salon();
+		UserDto customer = context.customer();
+		Long salonId = salon.getSalonId();
 
 		// Calculate total duration and price
-		long totalDurationMinutes = services.stream().mapToLong(service -> service.getDuration().toMinutes()).sum();
+		long totalDurationMinutes = services.stream().mapToLong(ServiceOfferingResponseDto::getDuration).sum();
 		BigDecimal totalPrice = services.stream().map(ServiceOfferingResponseDto::getPrice).reduce(BigDecimal.ZERO,
 				BigDecimal::add);
 
@@ -87,18 +151,29 @@ public class BookingServiceImpl implements BookingService {
 		LocalDateTime startTime = dto.getStartTime();
 		LocalDateTime endTime = startTime.plusMinutes(totalDurationMinutes);
 
-		// Validate time slot
-		validateTimeSlot(salon, startTime, endTime);
-
-		// Create booking
-		Booking booking = bookingMapper.toEntity(dto);
-		booking.setSalonId(salonId);
-		booking.setCustomerUserId(customerUserId);
-		booking.setEndTime(endTime);
-		booking.setTotalPrice(totalPrice);
-		booking.setStatus(BookingStatus.PENDING);
-
-		Booking saved = bookingRepository.save(booking);
+		// Reserve the slot in a short transaction of its own, so that no
+		// connection is held while the payment link is created
+		Booking saved = transactionTemplate.execute(status -> {
+			// Validate time slot while holding the salon day lock
+			LocalDate bookingDate = startTime.toLocalDate();
+			long dayVersion = salonDayLocks.lock(salonId, bookingDate);
+			validateTimeSlot(salon, startTime, endTime, dayVersion);
+
+			// Create booking
+			Booking booking = bookingMapper.toEntity(dto);
+			booking.setSalonId(salonId);
+			booking.setCustomerUserId(customerUserId);
+			booking.setEndTime(endTime);
+			booking.setTotalPrice(totalPrice);
+			booking.setStatus(BookingStatus.PENDING);
+
+			Booking created = bookingRepository.save(booking);
+			bookingSlotIndex.update(created, salonDayLocks.advance(salonId, bookingDate, dayVersion));
+			recordStatusChange(created, null);
+			bookingViewStore.record(created, salon, customer, services);
+			bookingFeedPublisher.publish(created, BookingFeedEventType.CREATED);
+			return created;
+		});
 
 		// Create payment link
 		PaymentOrderRequestDto paymentRequestDto = new PaymentOrderRequestDto();
@@ -109,9 +184,172 @@ public class BookingServiceImpl implements BookingService {
 		paymentRequestDto.setPaymentMethod(dto.getPaymentMethod());
 		paymentRequestDto.setCustomerUserEmail(customer.getEmail());
 
-		ResponseEntity<PaymentLinkResponseDto> paymentResponse = paymentServiceClient
-				.createPaymentLink(paymentRequestDto);
-		return paymentResponse.getBody();
+		try {
+			ResponseEntity<PaymentLinkResponseDto> paymentResponse = paymentServiceClient
+					.createPaymentLink(paymentRequestDto);
+			return paymentResponse.getBody();
+		} catch (RuntimeException e) {
+			// Without a payment link the booking can never be paid, so free the
+			// slot now instead of waiting for the expiry sweep
+			transactionTemplate.executeWithoutResult(status -> expireBooking(saved));
+			throw e;
+		}
+	}
+
+	private BulkBookingResponseDto placeBookings(String customerUserId, BulkBookingRequestDto dto) {
+		List<LocalDateTime> startTimes = expandStartTimes(dto);
+
+		BookingContext context = fetchBookingContext(customerUserId, dto.getServiceIds());
+		SalonResponseDto salon = context.salon();
+		UserDto customer = context.customer();
+
+		long totalDurationMinutes = context.services().stream().mapToLong(ServiceOfferingResponseDto::getDuration)
+				.sum();
+		BigDecimal pricePerBooking = context.services().stream().map(ServiceOfferingResponseDto::getPrice)
+				.reduce(BigDecimal.ZERO, BigDecimal::add);
+
+		List<BookingSlotResultDto> results = new ArrayList<>(startTimes.size());
+		List<Booking> saved = transactionTemplate.execute(status -> reserveSlots(customerUserId, dto, context,
+				startTimes, Duration.ofMinutes(totalDurationMinutes), pricePerBooking, results));
+
+		if (saved.isEmpty()) {
+			return new BulkBookingResponseDto(results, null);
+		}
+
+		// One payment order covers every accepted slot
+		List<Long> bookingIds = saved.stream().map(Booking::getId).toList();
+		PaymentOrderRequestDto paymentRequestDto = new PaymentOrderRequestDto();
+		paymentRequestDto.setBookingId(bookingIds.get(0));
+		paymentRequestDto.setBookingIds(bookingIds);
+		paymentRequestDto.setCustomerUserId(customer.getUserId());
+		paymentRequestDto.setSalonId(salon.getSalonId());
+		paymentRequestDto.setTotalAmount(pricePerBooking.multiply(BigDecimal.valueOf(saved.size())));
+		paymentRequestDto.setPaymentMethod(dto.getPaymentMethod());
+		paymentRequestDto.setCustomerUserEmail(customer.getEmail());
+
+		try {
+			PaymentLinkResponseDto paymentLink = paymentServiceClient.createPaymentLink(paymentRequestDto).getBody();
+			return new BulkBookingResponseDto(results, paymentLink.getPaymentLinkUrl());
+		} catch (RuntimeException e) {
+			transactionTemplate.executeWithoutResult(status -> expireBookings(saved));
+			throw e;
+		}
+	}
+
+	/**
+	 * Checks every requested slot against the bookings already held and
+	 * against the slots accepted before it, then inserts the accepted ones.
+	 * All requested salon days are locked, in date order so that concurrent
+	 * bulk bookings cannot deadlock, and their occupied slots are read with a
+	 * single range query.
+	 */
+	private List<Booking> reserveSlots(String customerUserId, BulkBookingRequestDto dto, BookingContext context,
+			List<LocalDateTime> startTimes, Duration duration, BigDecimal pricePerBooking,
+			List<BookingSlotResultDto> results) {
+		SalonResponseDto salon = context.salon();
+		Long salonId = salon.getSalonId();
+		int capacity = capacityOf(salon);
+
+		SortedMap<LocalDate, Long> dayVersions = new TreeMap<>();
+		startTimes.forEach(startTime -> dayVersions.put(startTime.toLocalDate(), null));
+		dayVersions.replaceAll((date, version) -> salonDayLocks.lock(salonId, date));
+
+		Map<LocalDate, SalonDaySlots> days = new HashMap<>();
+		dayVersions.forEach((date, version) -> days.put(date, new SalonDaySlots(date, version)));
+		for (BookingSlotProjection slot : bookingRepository.findSlotsBySalonIdAndRange(salonId,
+				BookingSlotIndex.ACTIVE_STATUSES, dayVersions.firstKey().atStartOfDay(),
+				dayVersions.lastKey().plusDays(1).atStartOfDay())) {
+			for (LocalDate date = slot.getStartTime().toLocalDate(); !date.isAfter(slot.getEndTime().toLocalDate());
+					date = date.plusDays(1)) {
+				SalonDaySlots daySlots = days.get(date);
+				if (daySlots != null) {
+					daySlots.add(slot.getId(), slot.getStartTime(), slot.getEndTime());
+				}
+			}
+		}
+
+		List<Booking> accepted = new ArrayList<>();
+		List<BookingSlotResultDto> acceptedResults = new ArrayList<>();
+		for (LocalDateTime startTime : startTimes) {
+			LocalDateTime endTime = startTime.plus(duration);
+			BookingSlotResultDto result = new BookingSlotResultDto(startTime, false, null, null);
+			results.add(result);
+
+			SalonDaySlots daySlots = days.get(startTime.toLocalDate());
+			if (outsideOpenHours(salon, startTime, endTime)) {
+				result.setReason("Outside the salon's open hours");
+				continue;
+			}
+			if (!daySlots.fits(startTime, endTime, capacity)) {
+				result.setReason("Time slot is not available");
+				continue;
+			}
+			// Hold the slot under a placeholder id so that later slots of the
+			// same request count against it
+			daySlots.add(-(long) results.size(), startTime, endTime);
+
+			Booking booking = bookingMapper.toEntity(
+					new BookingRequestDto(startTime, new HashSet<>(dto.getServiceIds()), dto.getPaymentMethod()));
+			booking.setSalonId(salonId);
+			booking.setCustomerUserId(customerUserId);
+			booking.setEndTime(endTime);
+			booking.setTotalPrice(pricePerBooking);
+			booking.setStatus(BookingStatus.PENDING);
+			accepted.add(booking);
+			acceptedResults.add(result);
+		}
+
+		if (accepted.isEmpty()) {
+			return accepted;
+		}
+
+		List<Booking> created = bookingRepository.saveAll(accepted);
+		for (int i = 0; i < created.size(); i++) {
+			acceptedResults.get(i).setAccepted(true);
+			acceptedResults.get(i).setBookingId(created.get(i).getId());
+		}
+
+		created.stream().map(booking -> booking.getStartTime().toLocalDate()).distinct().forEach(date -> {
+			salonDayLocks.advance(salonId, date, dayVersions.get(date));
+			bookingSlotIndex.evict(salonId, date);
+		});
+		salonBookingStatsRepository.addDeltas(salonId, created.size(), 0,
+				pricePerBooking.multiply(BigDecimal.valueOf(created.size())), BigDecimal.ZERO);
+		bookingViewStore.recordAll(created, salon, context.customer(), context.services());
+		created.forEach(booking -> bookingFeedPublisher.publish(booking, BookingFeedEventType.CREATED));
+		return created;
+	}
+
+	/**
+	 * Returns the explicit start times followed by the occurrences of the
+	 * recurrence rule, without duplicates.
+	 */
+	private List<LocalDateTime> expandStartTimes(BulkBookingRequestDto dto) {
+		List<LocalDateTime> startTimes = new ArrayList<>();
+		if (dto.getStartTimes() != null) {
+			startTimes.addAll(dto.getStartTimes());
+		}
+
+		BookingRecurrenceDto recurrence = dto.getRecurrence();
+		if (recurrence != null) {
+			if (recurrence.getOccurrences() > maxBulkSlots) {
+				throw new ValidationException("At most " + maxBulkSlots + " slots can be booked at once");
+			}
+			ChronoUnit unit = recurrence.getFrequency() == RecurrenceFrequency.DAILY ? ChronoUnit.DAYS
+					: ChronoUnit.WEEKS;
+			for (int i = 0; i < recurrence.getOccurrences(); i++) {
+				startTimes.add(recurrence.getFirstStartTime().plus((long) i * recurrence.getInterval(), unit));
+			}
+		}
+
+		List<LocalDateTime> distinct = startTimes.stream().filter(Objects::nonNull).distinct().toList();
+		if (distinct.isEmpty()) {
+			throw new ValidationException("Either start times or a recurrence is required");
+		}
+		if (distinct.size() > maxBulkSlots) {
+			throw new ValidationException("At most " + maxBulkSlots + " slots can be booked at once");
+		}
+		return distinct;
 	}
 
 	@Override
@@ -123,7 +361,23 @@ public class BookingServiceImpl implements BookingService {
 	@Override
 	public List<BookingResponseDto> getBookingsByCustomer(String customerUserId) {
 		List<Booking> bookings = bookingRepository.findByCustomerUserId(customerUserId);
-		return bookings.stream().map(this::buildResponseDto).collect(Collectors.toList());
+		return buildResponseDtos(bookings);
+	}
+
+	@Override
+	public BookingPageDto getBookingPageByCustomer(String customerUserId, String cursor, Integer size) {
+		int pageSize = resolvePageSize(size);
+		Limit limit = Limit.of(pageSize + 1);
+
+		List<Booking> bookings;
+		if (cursor == null) {
+			bookings = bookingRepository.findByCustomerUserIdOrderByStartTimeAscIdAsc(customerUserId, limit);
+		} else {
+			BookingCursor after = BookingCursor.decode(cursor);
+			bookings = bookingRepository.findByCustomerUserIdAfter(customerUserId, after.startTime(), after.id(),
+					limit);
+		}
+		return buildPage(bookings, pageSize);
 	}
 
 	@Override
@@ -133,7 +387,42 @@ public class BookingServiceImpl implements BookingService {
 		SalonResponseDto salon = salonResponse.getBody();
 
 		List<Booking> bookings = bookingRepository.findBySalonId(salon.getSalonId());
-		return bookings.stream().map(this::buildResponseDto).collect(Collectors.toList());
+		return buildResponseDtos(bookings);
+	}
+
+	@Override
+	public StreamingResponseBody exportBookingsBySalon(String ownerUserId, BookingExportFormat format) {
+		// Verify salon ownership before the response is committed
+		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonByOwnerId(ownerUserId);
+		Long salonId = salonResponse.getBody().getSalonId();
+
+		return outputStream -> bookingExporter.export(salonId, format, outputStream);
+	}
+
+	@Override
+	public SseEmitter subscribeToSalonFeed(String ownerUserId) {
+		// Verify salon ownership
+		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonByOwnerId(ownerUserId);
+		return salonFeedRegistry.subscribe(salonResponse.getBody().getSalonId());
+	}
+
+	@Override
+	public BookingPageDto getBookingPageBySalon(String ownerUserId, String cursor, Integer size) {
+		int pageSize = resolvePageSize(size);
+		Limit limit = Limit.of(pageSize + 1);
+
+		// Verify salon ownership
+		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonByOwnerId(ownerUserId);
+		SalonResponseDto salon = salonResponse.getBody();
+
+		List<Booking> bookings;
+		if (cursor == null) {
+			bookings = bookingRepository.findBySalonIdOrderByStartTimeAscIdAsc(salon.getSalonId(), limit);
+		} else {
+			BookingCursor after = BookingCursor.decode(cursor);
+			bookings = bookingRepository.findBySalonIdAfter(salon.getSalonId(), after.startTime(), after.id(), limit);
+		}
+		return buildPage(bookings, pageSize);
 	}
 
 	@Override
@@ -142,19 +431,104 @@ public class BookingServiceImpl implements BookingService {
 		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonByOwnerId(ownerUserId);
 		SalonResponseDto salon = salonResponse.getBody();
 
-		List<Booking> bookings = bookingRepository.findBySalonId(salon.getSalonId());
 		if (date == null) {
-			return bookings.stream().map(this::buildResponseDto).collect(Collectors.toList());
+			List<Booking> bookings = bookingRepository.findBySalonId(salon.getSalonId());
+			return buildResponseDtos(bookings);
 		}
 
-		return bookings.stream()
-				.filter(booking -> booking.getStartTime().toLocalDate().isEqual(date)
-						|| booking.getEndTime().toLocalDate().isEqual(date))
-				.map(this::buildResponseDto).collect(Collectors.toList());
+		return findBookingsInRange(salon.getSalonId(), date, date);
+	}
+
+	@Override
+	public BookingPageDto getBookingPageByDate(LocalDate date, String ownerUserId, String cursor, Integer size) {
+		int pageSize = resolvePageSize(size);
+		Limit limit = Limit.of(pageSize + 1);
+
+		// Verify salon ownership
+		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonByOwnerId(ownerUserId);
+		SalonResponseDto salon = salonResponse.getBody();
+
+		LocalDateTime from = date.atStartOfDay();
+		LocalDateTime to = date.plusDays(1).atStartOfDay();
+
+		List<Booking> bookings;
+		if (cursor == null) {
+			bookings = bookingRepository.findBySalonIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeAscIdAsc(
+					salon.getSalonId(), to, from, limit);
+		} else {
+			BookingCursor after = BookingCursor.decode(cursor);
+			bookings = bookingRepository.findBySalonIdAndRangeAfter(salon.getSalonId(), from, to, after.startTime(),
+					after.id(), limit);
+		}
+		return buildPage(bookings, pageSize);
+	}
+
+	@Override
+	public List<BookingResponseDto> getBookingsByDateRange(LocalDate from, LocalDate to, String ownerUserId) {
+		validateRange(from, to);
+
+		// Verify salon ownership
+		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonByOwnerId(ownerUserId);
+		SalonResponseDto salon = salonResponse.getBody();
+
+		return findBookingsInRange(salon.getSalonId(), from, to);
+	}
+
+	@Override
+	public BookingAvailabilityDto getAvailability(Long salonId, LocalDate date, Long durationMinutes,
+			Set<Long> serviceIds) {
+		long totalDurationMinutes = resolveDurationMinutes(salonId, durationMinutes, serviceIds);
+
+		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonById(salonId);
+		SalonResponseDto salon = salonResponse.getBody();
+
+		LocalDateTime openTime = LocalDateTime.of(date, salon.getOpenTime());
+		LocalDateTime closeTime = LocalDateTime.of(date, salon.getCloseTime());
+		LocalDateTime now = LocalDateTime.now();
+
+		List<LocalDateTime> startTimes = List.of();
+		if (openTime.isBefore(closeTime) && closeTime.isAfter(now)) {
+			startTimes = bookingSlotIndex.getDay(salonId, date)
+					.freeStartTimes(openTime, closeTime, Duration.ofMinutes(totalDurationMinutes), slotGranularity,
+							capacityOf(salon))
+					.stream().filter(startTime -> !startTime.isBefore(now)).collect(Collectors.toList());
+		}
+
+		return new BookingAvailabilityDto(salonId, date, totalDurationMinutes, slotGranularity.toMinutes(),
+				startTimes);
+	}
+
+	private long resolveDurationMinutes(Long salonId, Long durationMinutes, Set<Long> serviceIds) {
+		if (serviceIds == null || serviceIds.isEmpty()) {
+			if (durationMinutes == null || durationMinutes <= 0) {
+				throw new ValidationException("Either a positive duration or service IDs are required");
+			}
+			return durationMinutes;
+		}
+
+		ResponseEntity<List<ServiceOfferingResponseDto>> response = serviceOfferingServiceClient
+				.getServiceOfferingByIds(serviceIds);
+		List<ServiceOfferingResponseDto> services = response.getBody();
+
+		if (services.size() != serviceIds.size()) {
+			throw new ValidationException("One or more service IDs are invalid");
+		}
+		if (services.stream().anyMatch(service -> !service.getSalonId().equals(salonId))) {
+			throw new ValidationException("All services must belong to the same salon");
+		}
+		return services.stream().mapToLong(ServiceOfferingResponseDto::getDuration).sum();
+	}
+
+	private List<BookingResponseDto> findBookingsInRange(Long salonId, LocalDate from, LocalDate to) {
+		List<Booking> bookings = bookingRepository.findBySalonIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTime(
+				salonId, to.plusDays(1).atStartOfDay(), from.atStartOfDay());
+		return buildResponseDtos(bookings);
 	}
 
 	@Override
 	public BookingResponseDto updateBookingStatus(Long id, BookingStatus status, String ownerUserId) {
+		// Salon and start time of a booking never change, so they can be read
+		// before the salon day is locked
 		Booking booking = bookingRepository.findById(id).orElseThrow();
 
 		// Verify salon ownership
@@ -165,25 +539,65 @@ public class BookingServiceImpl implements BookingService {
 			throw new AuthorizationDeniedException("You are not authorized to update this booking");
 		}
 
-		booking.setStatus(status);
-		Booking updated = bookingRepository.save(booking);
+		Long salonId = booking.getSalonId();
+		LocalDate bookingDate = booking.getStartTime().toLocalDate();
+		Booking updated = transactionTemplate.execute(transactionStatus -> {
+			// Lock the salon day before any other read, so that the reads below and
+			// a reload of the day see every booking committed before the lock
+			long dayVersion = salonDayLocks.lock(salonId, bookingDate);
+			Booking current = bookingRepository.lockById(id).orElseThrow();
+
+			BookingStatus previousStatus = current.getStatus();
+			boolean wasActive = BookingSlotIndex.ACTIVE_STATUSES.contains(previousStatus);
+			boolean isActive = BookingSlotIndex.ACTIVE_STATUSES.contains(status);
+
+			// A freed slot may have been booked again since
+			if (isActive && !wasActive && !bookingSlotIndex.isAvailable(salonId, current.getStartTime(),
+					current.getEndTime(), capacityOf(salon), dayVersion)) {
+				throw new ConflictException("Time slot is no longer available");
+			}
+			current.setStatus(status);
+
+			Booking saved = bookingRepository.save(current);
+			if (wasActive != isActive) {
+				// Taking or freeing the slot changes the salon day
+				bookingSlotIndex.update(saved, salonDayLocks.advance(salonId, bookingDate, dayVersion));
+			} else {
+				bookingSlotIndex.update(saved);
+			}
+			recordStatusChange(saved, previousStatus);
+			bookingFeedPublisher.publish(saved, BookingFeedEventType.STATUS_CHANGED);
+			return saved;
+		});
 		return buildResponseDto(updated);
 	}
 
 	@Override
+	@Transactional
 	public void confirmBooking(Long id) {
-		Booking booking = bookingRepository.findById(id).orElseThrow();
+		confirmBookings(List.of(id));
+	}
 
-		if (booking.getStatus() != BookingStatus.PENDING) {
-			return;
+	@Override
+	@Transactional
+	public int confirmBookings(Collection<Long> ids) {
+		List<Booking> bookings = bookingRepository.lockByIdInAndStatus(ids, BookingStatus.PENDING);
+		if (bookings.isEmpty()) {
+			return 0;
 		}
 
-		booking.setStatus(BookingStatus.CONFIRMED);
-		Booking updated = bookingRepository.save(booking);
-		
-		notificationEventProducer.sendUserNotificationEvent(getUserNotificarionDto(updated));
-		notificationEventProducer.sendSalonNotificationEvent(getSalonNotificarionDto(updated));
-
+		// Confirming keeps the slot taken and leaves the salon totals as they are,
+		// so one bulk update is all the batch needs
+		int confirmed = bookingRepository.updateStatus(bookings.stream().map(Booking::getId).toList(),
+				BookingStatus.PENDING, BookingStatus.CONFIRMED);
+		bookings.forEach(booking -> bookingFeedPublisher.publish(booking, BookingFeedEventType.CONFIRMED,
+				BookingStatus.CONFIRMED));
+
+		notificationEventProducer
+				.sendUserNotificationEvents(bookings.stream().map(this::getUserNotificarionDto).toList());
+		notificationEventProducer
+				.sendSalonNotificationEvents(bookings.stream().map(this::getSalonNotificarionDto).toList());
+		return confirmed;
 	}
 
 	@Override
@@ -192,58 +606,208 @@ public class BookingServiceImpl implements BookingService {
 		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonByOwnerId(ownerUserId);
 		SalonResponseDto salon = salonResponse.getBody();
 
-		List<Booking> bookings = bookingRepository.findBySalonId(salon.getSalonId());
+		Long salonId = salon.getSalonId();
+		SalonBookingStats stats = salonBookingStatsRepository.findById(salonId).orElseGet(() -> {
+			// First read of the salon's totals: seed them from its bookings
+			transactionTemplate.executeWithoutResult(status -> salonBookingStatsRepository.seed(salonId));
+			return salonBookingStatsRepository.findById(salonId).orElseThrow();
+		});
+		return new SalonBookingReportDto(stats.getTotalEarnings(), stats.getTotalBookings(),
+				stats.getCancelledBookings(), stats.getTotalRefund());
+	}
 
-		SalonBookingReportDto report = new SalonBookingReportDto();
-		report.setTotalEarnings(
-				bookings.stream().map(Booking::getTotalPrice).map(BigDecimal::doubleValue).reduce(0.0, Double::sum));
-		report.setTotalBookings(bookings.size());
-		report.setCancelledBookings(
-				(int) bookings.stream().filter(booking -> booking.getStatus() == BookingStatus.CANCELLED).count());
-		report.setTotalRefund(bookings.stream().filter(booking -> booking.getStatus() == BookingStatus.CANCELLED)
-				.map(Booking::getTotalPrice).map(BigDecimal::doubleValue).reduce(0.0, Double::sum));
+	@Override
+	public SalonBookingAnalyticsDto getSalonBookingAnalytics(String ownerUserId, LocalDate from, LocalDate to,
+			ReportBucket bucket) {
+		validateRange(from, to);
+
+		// Verify salon ownership
+		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonByOwnerId(ownerUserId);
+		SalonResponseDto salon = salonResponse.getBody();
 
-		return report;
+		Map<LocalDate, DailyBookingStatsProjection> days = bookingRepository
+				.aggregateDailyStats(salon.getSalonId(), from.atStartOfDay(), to.plusDays(1).atStartOfDay()).stream()
+				.collect(Collectors.toMap(DailyBookingStatsProjection::getDay, Function.identity()));
+		long openMinutesPerDay = salon.getOpenTime().isBefore(salon.getCloseTime())
+				? ChronoUnit.MINUTES.between(salon.getOpenTime(), salon.getCloseTime())
+				: 0;
+
+		// Booked minutes add up parallel bookings, so the salon can book its
+		// open minutes once per unit of capacity
+		List<BookingBucketDto> buckets = BookingBucketRollup.rollUp(days, from, to, bucket,
+				openMinutesPerDay * capacityOf(salon));
+		return new SalonBookingAnalyticsDto(salon.getSalonId(), from, to, bucket, buckets);
 	}
 
-	private void validateTimeSlot(SalonResponseDto salon, LocalDateTime startTime, LocalDateTime endTime) {
+	private void expireBooking(Booking booking) {
+		expireBookings(List.of(booking));
+	}
+
+	/**
+	 * Expires PENDING bookings of one salon whose payment link could not be
+	 * created, locking their days in date order.
+	 */
+	private void expireBookings(List<Booking> bookings) {
+		Long salonId = bookings.get(0).getSalonId();
+		SortedMap<LocalDate, Long> dayVersions = new TreeMap<>();
+		bookings.forEach(booking -> dayVersions.put(booking.getStartTime().toLocalDate(), null));
+		dayVersions.replaceAll((date, version) -> salonDayLocks.lock(salonId, date));
+
+		bookingRepository.updateStatus(bookings.stream().map(Booking::getId).toList(), BookingStatus.PENDING,
+				BookingStatus.EXPIRED);
+		dayVersions.forEach((date, version) -> {
+			salonDayLocks.advance(salonId, date, version);
+			bookingSlotIndex.evict(salonId, date);
+		});
+		bookings.forEach(booking -> bookingFeedPublisher.publish(booking, BookingFeedEventType.STATUS_CHANGED,
+				BookingStatus.EXPIRED));
+	}
+
+	/**
+	 * Applies a booking creation (previousStatus null) or status change to the
+	 * salon's running totals. Earnings count every booking; refunds count the
+	 * cancelled ones.
+	 */
+	private void recordStatusChange(Booking booking, BookingStatus previousStatus) {
+		long bookings = previousStatus == null ? 1 : 0;
+		BigDecimal earnings = previousStatus == null ? booking.getTotalPrice() : BigDecimal.ZERO;
+
+		boolean wasCancelled = previousStatus == BookingStatus.CANCELLED;
+		boolean isCancelled = booking.getStatus() == BookingStatus.CANCELLED;
+		long cancelled = wasCancelled == isCancelled ? 0 : isCancelled ? 1 : -1;
+		BigDecimal refund = booking.getTotalPrice().multiply(BigDecimal.valueOf(cancelled));
+
+		if (bookings == 0 && cancelled == 0) {
+			return;
+		}
+		salonBookingStatsRepository.addDeltas(booking.getSalonId(), bookings, cancelled, earnings, refund);
+	}
+
+	private void validateTimeSlot(SalonResponseDto salon, LocalDateTime startTime, LocalDateTime endTime,
+			long dayVersion) {
+		if (outsideOpenHours(salon, startTime, endTime)) {
+			throw new ValidationException("Booking time must be within salon's open hours: " + salon.getOpenTime()
+					+ " to " + salon.getCloseTime());
+		}
+
+		if (!bookingSlotIndex.isAvailable(salon.getSalonId(), startTime, endTime, capacityOf(salon), dayVersion)) {
+			throw new ValidationException("Time slot is not available");
+		}
+	}
+
+	private static boolean outsideOpenHours(SalonResponseDto salon, LocalDateTime startTime, LocalDateTime endTime) {
 		LocalDateTime salonOpenTime = LocalDateTime.of(startTime.toLocalDate(), salon.getOpenTime());
 		LocalDateTime salonCloseTime = LocalDateTime.of(startTime.toLocalDate(), salon.getCloseTime());
+		return startTime.isBefore(salonOpenTime) || endTime.isAfter(salonCloseTime);
+	}
+
+	/**
+	 * Concurrent bookings the salon can serve; salons without a configured
+	 * capacity serve one at a time.
+	 */
+	private static int capacityOf(SalonResponseDto salon) {
+		return salon.getCapacity() == null ? 1 : salon.getCapacity();
+	}
 
-		if (startTime.isBefore(salonOpenTime) || endTime.isAfter(salonCloseTime)) {
-			throw new ValidationException("Booking time must be within salon's open hours: "
-					+ salonOpenTime.toLocalTime() + " to " + salonCloseTime.toLocalTime());
+	private BookingResponseDto buildResponseDto(Booking booking) {
+		return bookingViewStore.toResponseDtos(List.of(booking)).get(0);
+	}
+	
+	private Long resolveSalonId(List<ServiceOfferingResponseDto> services, Set<Long> serviceIds) {
+		if (services.size() != serviceIds.size()) {
+			throw new ValidationException("One or more service IDs are invalid");
+		}
+
+		// Verify all services belong to the same salon
+		Long salonId = services.stream().map(ServiceOfferingResponseDto::getSalonId).distinct().findFirst()
+				.orElseThrow(() -> new ValidationException("No services provided"));
+		if (services.stream().anyMatch(service -> !service.getSalonId().equals(salonId))) {
+			throw new ValidationException("All services must belong to the same salon");
 		}
+		return salonId;
+	}
+
+	/**
+	 * Validates the customer and fetches the services concurrently, then
+	 * fetches the salon as soon as the services tell which one it is.
+	 */
+	private BookingContext fetchBookingContext(String customerUserId, Set<Long> serviceIds) {
+		CompletableFuture<UserDto> customerFuture = CompletableFuture
+				.supplyAsync(() -> userServiceClient.getUserByUserId(customerUserId).getBody(), downstreamCallExecutor);
+
+		CompletableFuture<List<ServiceOfferingResponseDto>> servicesFuture = CompletableFuture.supplyAsync(
+				() -> serviceOfferingServiceClient.getServiceOfferingByIds(serviceIds).getBody(),
+				downstreamCallExecutor);
+
+		CompletableFuture<SalonResponseDto> salonFuture = servicesFuture.thenApplyAsync(
+				services -> salonServiceClient.getSalonById(resolveSalonId(services, serviceIds)).getBody(),
+				downstreamCallExecutor);
+
+		List<ServiceOfferingResponseDto> services = await(servicesFuture);
+		SalonResponseDto salon = await(salonFuture);
+		UserDto customer = await(customerFuture);
+		return new BookingContext(customer, services, salon);
+	}
 
-		List<Booking> existingBookings = bookingRepository.findBySalonId(salon.getSalonId());
-		for (Booking existing : existingBookings) {
-			if ((startTime.isBefore(existing.getEndTime()) && endTime.isAfter(existing.getStartTime()))
-					|| startTime.equals(existing.getStartTime()) || endTime.equals(existing.getEndTime())) {
-				throw new ValidationException("Time slot is not available");
+	/**
+	 * Waits for a downstream call and rethrows its original exception, so
+	 * callers and the exception handler see the same errors as for a direct
+	 * Feign call.
+	 */
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException | CancellationException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
 			}
+			throw new IllegalStateException(cause);
 		}
 	}
 
-	private BookingResponseDto buildResponseDto(Booking booking) {
-		// Fetch salon
-		ResponseEntity<SalonResponseDto> salonResponse = salonServiceClient.getSalonById(booking.getSalonId());
-		SalonResponseDto salon = salonResponse.getBody();
+	private int resolvePageSize(Integer size) {
+		if (size == null) {
+			return defaultPageSize;
+		}
+		if (size < 1) {
+			throw new ValidationException("Page size must be positive");
+		}
+		if (size > maxPageSize) {
+			throw new ValidationException("Page size must not exceed " + maxPageSize);
+		}
+		return size;
+	}
 
-		// Fetch customer
-		ResponseEntity<UserDto> customerResponse = userServiceClient.getUserByUserId(booking.getCustomerUserId());
-		UserDto customer = customerResponse.getBody();
+	/**
+	 * Rejects a date range that ends before it starts or spans more days than
+	 * one request may load.
+	 */
+	private void validateRange(LocalDate from, LocalDate to) {
+		if (to.isBefore(from)) {
+			throw new ValidationException("Range end must not be before range start");
+		}
+		if (ChronoUnit.DAYS.between(from, to) + 1 > maxRangeDays) {
+			throw new ValidationException("Range must not span more than " + maxRangeDays + " days");
+		}
+	}
 
-		// Fetch services
-		ResponseEntity<List<ServiceOfferingResponseDto>> response = serviceOfferingServiceClient
-				.getServiceOfferingByIds(booking.getServiceIds());
-		List<ServiceOfferingResponseDto> services = response.getBody();
+	/**
+	 * Turns a result fetched with one extra row into a page; the extra row
+	 * only signals that another page exists.
+	 */
+	private BookingPageDto buildPage(List<Booking> bookings, int pageSize) {
+		boolean hasNext = bookings.size() > pageSize;
+		List<Booking> page = hasNext ? bookings.subList(0, pageSize) : bookings;
+		String nextCursor = hasNext ? BookingCursor.after(page.get(page.size() - 1)).encode() : null;
+		return new BookingPageDto(buildResponseDtos(page), nextCursor, hasNext);
+	}
 
-		// Build response
-		BookingResponseDto responseDto = bookingMapper.toDTO(booking);
-		responseDto.setSalon(salon);
-		responseDto.setCustomer(customer);
-		responseDto.setServices(services);
-		return responseDto;
+	private List<BookingResponseDto> buildResponseDtos(List<Booking> bookings) {
+		return bookingViewStore.toResponseDtos(bookings);
 	}
 	
 	private NotificationRequestDto getUserNotificarionDto(Booking booking) {
@@ -265,4 +829,8 @@ public class BookingServiceImpl implements BookingService {
 		notificationRequestDto.setUserId(null);
 		return notificationRequestDto;
 	}
-}
\ No newline at end of file
+
+	private record BookingContext(UserDto customer, List<ServiceOfferingResponseDto> services,
+			SalonResponseDto salon) {
+	}
+}
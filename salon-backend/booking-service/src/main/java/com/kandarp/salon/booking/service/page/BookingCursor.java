@@ -0,0 +1,41 @@
+package com.kandarp.salon.booking.service.page;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.shared.exception.ValidationException;
+
+/**
+ * Position after the last booking of a page in (start_time, id) order. It is
+ * handed to clients as an opaque URL-safe token.
+ */
+public record BookingCursor(LocalDateTime startTime, Long id) {
+
+	private static final String SEPARATOR = "|";
+
+	public static BookingCursor after(Booking booking) {
+		return new BookingCursor(booking.getStartTime(), booking.getId());
+	}
+
+	public String encode() {
+		String value = startTime + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static BookingCursor decode(String token) {
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = value.lastIndexOf(SEPARATOR);
+			if (separator < 0) {
+				throw new ValidationException("Invalid cursor");
+			}
+			return new BookingCursor(LocalDateTime.parse(value.substring(0, separator)),
+					Long.valueOf(value.substring(separator + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new ValidationException("Invalid cursor");
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.kandarp.salon.booking.service.report;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.kandarp.salon.booking.repository.DailyBookingStatsProjection;
+import com.kandarp.salon.shared.booking.constant.ReportBucket;
+import com.kandarp.salon.shared.booking.dto.BookingBucketDto;
+
+/**
+ * Rolls daily booking totals up into day, week or month buckets, clipped to
+ * the requested range. Weeks end on Sunday. A bucket's open minutes are the
+ * bookable minutes per day, i.e. opening hours times capacity, summed over its
+ * days.
+ */
+public final class BookingBucketRollup {
+
+	private BookingBucketRollup() {
+	}
+
+	public static List<BookingBucketDto> rollUp(Map<LocalDate, ? extends DailyBookingStatsProjection> days,
+			LocalDate from, LocalDate to, ReportBucket bucket, long bookableMinutesPerDay) {
+		List<BookingBucketDto> buckets = new ArrayList<>();
+		LocalDate bucketStart = from;
+		while (!bucketStart.isAfter(to)) {
+			LocalDate bucketEnd = endOfBucket(bucketStart, bucket);
+			if (bucketEnd.isAfter(to)) {
+				bucketEnd = to;
+			}
+
+			BookingBucketDto bucketDto = new BookingBucketDto(bucketStart, bucketEnd, 0, BigDecimal.ZERO, 0, 0,
+					bookableMinutesPerDay * (ChronoUnit.DAYS.between(bucketStart, bucketEnd) + 1));
+			for (LocalDate day = bucketStart; !day.isAfter(bucketEnd); day = day.plusDays(1)) {
+				DailyBookingStatsProjection stats = days.get(day);
+				if (stats != null) {
+					bucketDto.setBookings(bucketDto.getBookings() + stats.getBookings());
+					bucketDto.setConfirmedRevenue(bucketDto.getConfirmedRevenue().add(stats.getConfirmedRevenue()));
+					bucketDto.setCancellations(bucketDto.getCancellations() + stats.getCancellations());
+					bucketDto.setBookedMinutes(bucketDto.getBookedMinutes() + stats.getBookedMinutes());
+				}
+			}
+			buckets.add(bucketDto);
+			bucketStart = bucketEnd.plusDays(1);
+		}
+		return buckets;
+	}
+
+	private static LocalDate endOfBucket(LocalDate day, ReportBucket bucket) {
+		return switch (bucket) {
+		case DAY -> day;
+		case WEEK -> day.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+		case MONTH -> day.with(TemporalAdjusters.lastDayOfMonth());
+		};
+	}
+}
@@ -0,0 +1,174 @@
+package com.kandarp.salon.booking.service.slot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.booking.repository.BookingRepository;
+import com.kandarp.salon.booking.repository.BookingSlotProjection;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory index of occupied slots per salon and day. A day is loaded lazily
+ * with a date-bounded query the first time it is checked and is then kept up
+ * to date by booking creation and status changes, so slot validation never
+ * scans the booking history of a salon.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingSlotIndex {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BookingSlotIndex.class);
+
+	/**
+	 * Statuses that hold a slot. Every other status frees it.
+	 */
+	public static final Set<BookingStatus> ACTIVE_STATUSES = EnumSet.of(BookingStatus.PENDING,
+			BookingStatus.CONFIRMED);
+
+	static final long UNKNOWN_VERSION = -1;
+
+	private final BookingRepository bookingRepository;
+
+	private final Map<SlotKey, SalonDaySlots> days = new ConcurrentHashMap<>();
+
+	@Value("${booking.slot-index.ttl}")
+	private Duration ttl;
+
+	@Value("${booking.slot-index.max-days}")
+	private int maxDays;
+
+	/**
+	 * Checks the slot against the salon's capacity on the salon day as of the
+	 * given guard version, which the caller holds the lock of (see
+	 * {@link SalonDayLocks}). The day is reloaded if another node changed it
+	 * since it was cached.
+	 */
+	public boolean isAvailable(Long salonId, LocalDateTime startTime, LocalDateTime endTime, int capacity,
+			long version) {
+		SlotKey key = new SlotKey(salonId, startTime.toLocalDate());
+		SalonDaySlots slots = days.get(key);
+		if (slots == null || slots.getVersion() != version) {
+			slots = cache(key, load(salonId, key.date(), version));
+		}
+		return slots.fits(startTime, endTime, capacity);
+	}
+
+	/**
+	 * Returns the cached salon day without locking it, reloading it once it is
+	 * older than the TTL. Meant for read-only views such as availability.
+	 */
+	public SalonDaySlots getDay(Long salonId, LocalDate date) {
+		SlotKey key = new SlotKey(salonId, date);
+		SalonDaySlots slots = days.get(key);
+		if (slots == null || slots.isOlderThan(ttl.toNanos())) {
+			slots = cache(key, load(salonId, date, UNKNOWN_VERSION));
+		}
+		return slots;
+	}
+
+	/**
+	 * Applies the current status of the booking to the index once the
+	 * surrounding transaction commits, or immediately without one.
+	 */
+	public void update(Booking booking) {
+		update(booking, UNKNOWN_VERSION);
+	}
+
+	/**
+	 * Like {@link #update(Booking)}, for a change that advanced the guard
+	 * version of the salon day to {@code version}. A cached day that missed an
+	 * earlier change is dropped instead of patched.
+	 */
+	public void update(Booking booking, long version) {
+		Long salonId = booking.getSalonId();
+		Long bookingId = booking.getId();
+		LocalDateTime startTime = booking.getStartTime();
+		LocalDateTime endTime = booking.getEndTime();
+		boolean active = ACTIVE_STATUSES.contains(booking.getStatus());
+
+		afterCommit(() -> {
+			SlotKey key = new SlotKey(salonId, startTime.toLocalDate());
+			SalonDaySlots slots = days.get(key);
+			if (slots == null) {
+				return;
+			}
+			if (version != UNKNOWN_VERSION) {
+				if (slots.getVersion() != version - 1) {
+					days.remove(key, slots);
+					return;
+				}
+				slots.setVersion(version);
+			}
+			if (active) {
+				slots.add(bookingId, startTime, endTime);
+			} else {
+				slots.remove(bookingId);
+			}
+		});
+	}
+
+	/**
+	 * Drops the cached salon day once the surrounding transaction commits, for
+	 * bulk changes that are not applied booking by booking.
+	 */
+	public void evict(Long salonId, LocalDate date) {
+		afterCommit(() -> days.remove(new SlotKey(salonId, date)));
+	}
+
+	private SalonDaySlots cache(SlotKey key, SalonDaySlots slots) {
+		days.put(key, slots);
+		evictIfFull();
+		return slots;
+	}
+
+	private SalonDaySlots load(Long salonId, LocalDate date, long version) {
+		SalonDaySlots slots = new SalonDaySlots(date, version);
+		for (BookingSlotProjection slot : bookingRepository.findSlotsBySalonIdAndRange(salonId, ACTIVE_STATUSES,
+				date.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+			slots.add(slot.getId(), slot.getStartTime(), slot.getEndTime());
+		}
+		LOGGER.debug("Loaded {} slots for salon {} on {}", slots.size(), salonId, date);
+		return slots;
+	}
+
+	private void evictIfFull() {
+		if (days.size() <= maxDays) {
+			return;
+		}
+		long ttlNanos = ttl.toNanos();
+		LocalDate today = LocalDate.now();
+		days.entrySet().removeIf(entry -> entry.getKey().date().isBefore(today) || entry.getValue().isOlderThan(ttlNanos));
+		if (days.size() > maxDays) {
+			LOGGER.info("Slot index exceeded {} days, clearing it", maxDays);
+			days.clear();
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,65 @@
+package com.kandarp.salon.booking.service.slot;
+
+/**
+ * Segment tree over the minutes of one day that counts the bookings occupying
+ * each minute. Adding a booking and asking for the highest count within a
+ * range both take O(log n), independent of how many bookings the day holds.
+ */
+class OccupancyTree {
+
+	static final int MINUTES_PER_DAY = 24 * 60;
+
+	private final int size;
+	private final int[] max;
+	private final int[] pending;
+
+	OccupancyTree(int size) {
+		// A power of two keeps the tree complete, so 2 * size nodes suffice
+		this.size = Integer.highestOneBit(size - 1) << 1;
+		this.max = new int[2 * this.size];
+		this.pending = new int[2 * this.size];
+	}
+
+	/**
+	 * Adds {@code delta} to every minute in [from, to).
+	 */
+	void add(int from, int to, int delta) {
+		if (from < to) {
+			add(1, 0, size, from, to, delta);
+		}
+	}
+
+	/**
+	 * Highest count of any minute in [from, to), 0 for an empty range.
+	 */
+	int max(int from, int to) {
+		return from < to ? max(1, 0, size, from, to) : 0;
+	}
+
+	private void add(int node, int nodeFrom, int nodeTo, int from, int to, int delta) {
+		if (to <= nodeFrom || nodeTo <= from) {
+			return;
+		}
+		if (from <= nodeFrom && nodeTo <= to) {
+			max[node] += delta;
+			pending[node] += delta;
+			return;
+		}
+		int middle = (nodeFrom + nodeTo) >>> 1;
+		add(2 * node, nodeFrom, middle, from, to, delta);
+		add(2 * node + 1, middle, nodeTo, from, to, delta);
+		max[node] = pending[node] + Math.max(max[2 * node], max[2 * node + 1]);
+	}
+
+	private int max(int node, int nodeFrom, int nodeTo, int from, int to) {
+		if (to <= nodeFrom || nodeTo <= from) {
+			return Integer.MIN_VALUE;
+		}
+		if (from <= nodeFrom && nodeTo <= to) {
+			return max[node];
+		}
+		int middle = (nodeFrom + nodeTo) >>> 1;
+		return pending[node] + Math.max(max(2 * node, nodeFrom, middle, from, to),
+				max(2 * node + 1, middle, nodeTo, from, to));
+	}
+}
@@ -0,0 +1,77 @@
+package com.kandarp.salon.booking.service.slot;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kandarp.salon.booking.repository.SalonDayGuardRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serializes booking changes per salon and day. Within a node a lock per
+ * (salonId, date) queues competing requests before they reach the database;
+ * across nodes the guard row is locked exclusively by an upsert before its
+ * version is read with SELECT ... FOR UPDATE. Both are held until the
+ * surrounding transaction completes. Different salons or days never share a
+ * lock.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalonDayLocks {
+
+	private final SalonDayGuardRepository salonDayGuardRepository;
+
+	private final Map<SlotKey, LockEntry> locks = new ConcurrentHashMap<>();
+
+	/**
+	 * Locks the salon day for the rest of the current transaction and returns
+	 * the current guard version.
+	 */
+	public long lock(Long salonId, LocalDate date) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("Salon day locks require an active transaction");
+		}
+
+		SlotKey key = new SlotKey(salonId, date);
+		LockEntry entry = locks.compute(key, (k, existing) -> {
+			LockEntry lockEntry = existing != null ? existing : new LockEntry();
+			lockEntry.holders++;
+			return lockEntry;
+		});
+		entry.lock.lock();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				release(key, entry);
+			}
+		});
+
+		salonDayGuardRepository.insertOrLock(salonId, date);
+		return salonDayGuardRepository.lockVersion(salonId, date);
+	}
+
+	/**
+	 * Records a change of the occupied slots of a locked salon day and returns
+	 * the new guard version.
+	 */
+	public long advance(Long salonId, LocalDate date, long version) {
+		salonDayGuardRepository.incrementVersion(salonId, date);
+		return version + 1;
+	}
+
+	private void release(SlotKey key, LockEntry entry) {
+		entry.lock.unlock();
+		locks.computeIfPresent(key, (k, existing) -> --existing.holders == 0 ? null : existing);
+	}
+
+	private static final class LockEntry {
+		private final ReentrantLock lock = new ReentrantLock();
+		private int holders;
+	}
+}
@@ -0,0 +1,186 @@
+package com.kandarp.salon.booking.service.slot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Occupied time ranges of one salon on one day, kept sorted by start time.
+ * Alongside the ranges an {@link OccupancyTree} counts the bookings in every
+ * minute of the day, so checking a range against the salon's capacity is a
+ * single max query however many bookings overlap it. Ranges are widened to
+ * whole minutes. The tree is only allocated once the day holds a booking.
+ * Bookings are found by id through their start time and a binary search over
+ * the sorted ranges.
+ */
+public class SalonDaySlots {
+
+	private long[] bookingIds = new long[0];
+	private long[] starts = new long[0];
+	private long[] ends = new long[0];
+	private int size;
+	private final Map<Long, Long> startsById = new HashMap<>();
+
+	private final long dayStart;
+	private OccupancyTree occupancy;
+
+	private final long loadedAt = System.nanoTime();
+	private long version;
+
+	public SalonDaySlots(LocalDate date, long version) {
+		this.dayStart = toSeconds(date.atStartOfDay());
+		this.version = version;
+	}
+
+	/**
+	 * Returns true if a booking of [startTime, endTime) would keep every minute
+	 * at or below {@code capacity} concurrent bookings.
+	 */
+	public synchronized boolean fits(LocalDateTime startTime, LocalDateTime endTime, int capacity) {
+		long start = toSeconds(startTime);
+		long end = toSeconds(endTime);
+		return maxOccupancy(startMinute(start), endMinute(end)) < capacity;
+	}
+
+	/**
+	 * Returns every start time between opening and closing, on a grid of
+	 * {@code step} anchored at opening, at which a booking of {@code duration}
+	 * still fits within {@code capacity}.
+	 */
+	public synchronized List<LocalDateTime> freeStartTimes(LocalDateTime openTime, LocalDateTime closeTime,
+			Duration duration, Duration step, int capacity) {
+		long open = toSeconds(openTime);
+		long close = toSeconds(closeTime);
+		long length = duration.toSeconds();
+		long stepSeconds = step.toSeconds();
+
+		List<LocalDateTime> result = new ArrayList<>();
+		for (long candidate = open; candidate + length <= close; candidate += stepSeconds) {
+			if (maxOccupancy(startMinute(candidate), endMinute(candidate + length)) < capacity) {
+				result.add(openTime.plusSeconds(candidate - open));
+			}
+		}
+		return result;
+	}
+
+	public synchronized void add(Long bookingId, LocalDateTime startTime, LocalDateTime endTime) {
+		if (indexOf(bookingId) >= 0) {
+			return;
+		}
+		long start = toSeconds(startTime);
+		int position = countStartingBefore(start + 1);
+		ensureCapacity(size + 1);
+		System.arraycopy(bookingIds, position, bookingIds, position + 1, size - position);
+		System.arraycopy(starts, position, starts, position + 1, size - position);
+		System.arraycopy(ends, position, ends, position + 1, size - position);
+		bookingIds[position] = bookingId;
+		starts[position] = start;
+		ends[position] = toSeconds(endTime);
+		size++;
+		startsById.put(bookingId, start);
+		if (occupancy == null) {
+			occupancy = new OccupancyTree(OccupancyTree.MINUTES_PER_DAY);
+		}
+		occupancy.add(startMinute(start), endMinute(ends[position]), 1);
+	}
+
+	public synchronized void remove(Long bookingId) {
+		int position = indexOf(bookingId);
+		if (position < 0) {
+			return;
+		}
+		occupancy.add(startMinute(starts[position]), endMinute(ends[position]), -1);
+		System.arraycopy(bookingIds, position + 1, bookingIds, position, size - position - 1);
+		System.arraycopy(starts, position + 1, starts, position, size - position - 1);
+		System.arraycopy(ends, position + 1, ends, position, size - position - 1);
+		size--;
+		startsById.remove(bookingId);
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Guard version of the salon day this state reflects, or
+	 * {@link BookingSlotIndex#UNKNOWN_VERSION} if it was loaded without the
+	 * guard row lock.
+	 */
+	public synchronized long getVersion() {
+		return version;
+	}
+
+	synchronized void setVersion(long version) {
+		this.version = version;
+	}
+
+	boolean isOlderThan(long ttlNanos) {
+		return System.nanoTime() - loadedAt > ttlNanos;
+	}
+
+	private int maxOccupancy(int fromMinute, int toMinute) {
+		return occupancy == null ? 0 : occupancy.max(fromMinute, toMinute);
+	}
+
+	/**
+	 * Minute of the day the instant falls in, clamped to the day.
+	 */
+	private int startMinute(long instant) {
+		return Math.clamp(Math.floorDiv(instant - dayStart, 60), 0, OccupancyTree.MINUTES_PER_DAY);
+	}
+
+	/**
+	 * First minute of the day after the instant, clamped to the day.
+	 */
+	private int endMinute(long instant) {
+		return Math.clamp(Math.ceilDiv(instant - dayStart, 60), 0, OccupancyTree.MINUTES_PER_DAY);
+	}
+
+	private int countStartingBefore(long instant) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (starts[mid] < instant) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private int indexOf(Long bookingId) {
+		Long start = bookingId == null ? null : startsById.get(bookingId);
+		if (start == null) {
+			return -1;
+		}
+		// Only the bookings starting at the same second need to be compared
+		for (int i = countStartingBefore(start); i < size && starts[i] == start; i++) {
+			if (bookingIds[i] == bookingId) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void ensureCapacity(int required) {
+		if (required <= starts.length) {
+			return;
+		}
+		int capacity = Math.max(8, starts.length * 2);
+		bookingIds = Arrays.copyOf(bookingIds, capacity);
+		starts = Arrays.copyOf(starts, capacity);
+		ends = Arrays.copyOf(ends, capacity);
+	}
+
+	private static long toSeconds(LocalDateTime dateTime) {
+		return dateTime.toEpochSecond(ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,6 @@
+package com.kandarp.salon.booking.service.slot;
+
+import java.time.LocalDate;
+
+record SlotKey(Long salonId, LocalDate date) {
+}
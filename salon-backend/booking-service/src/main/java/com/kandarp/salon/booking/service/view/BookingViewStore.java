@@ -0,0 +1,208 @@
+package com.kandarp.salon.booking.service.view;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.booking.entity.BookingView;
+import com.kandarp.salon.booking.entity.ServiceSnapshot;
+import com.kandarp.salon.booking.mapper.BookingMapper;
+import com.kandarp.salon.booking.repository.BookingViewRepository;
+import com.kandarp.salon.booking.service.client.SalonServiceClient;
+import com.kandarp.salon.booking.service.client.ServiceOfferingServiceClient;
+import com.kandarp.salon.booking.service.client.UserServiceClient;
+import com.kandarp.salon.shared.booking.dto.BookingCustomerSummaryDto;
+import com.kandarp.salon.shared.booking.dto.BookingResponseDto;
+import com.kandarp.salon.shared.booking.dto.BookingSalonSummaryDto;
+import com.kandarp.salon.shared.booking.dto.BookingServiceSummaryDto;
+import com.kandarp.salon.shared.salon.dto.SalonResponseDto;
+import com.kandarp.salon.shared.salon.dto.SalonUpdatedEventDto;
+import com.kandarp.salon.shared.serviceoffering.dto.ServiceOfferingResponseDto;
+import com.kandarp.salon.shared.user.constant.UserBatch;
+import com.kandarp.salon.shared.user.dto.UserDto;
+import com.kandarp.salon.shared.user.dto.UserUpdatedEventDto;
+
+/**
+ * Builds booking responses from the local booking_views read model. Bookings
+ * made before the read model existed are hydrated once from the owning
+ * services and their views are stored for later reads, once every detail was
+ * found.
+ */
+@Component
+public class BookingViewStore {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BookingViewStore.class);
+
+	private final BookingViewRepository bookingViewRepository;
+	private final BookingMapper bookingMapper;
+
+	private final SalonServiceClient salonServiceClient;
+	private final ServiceOfferingServiceClient serviceOfferingServiceClient;
+	private final UserServiceClient userServiceClient;
+
+	private final TransactionTemplate newTransactionTemplate;
+
+	public BookingViewStore(BookingViewRepository bookingViewRepository, BookingMapper bookingMapper,
+			SalonServiceClient salonServiceClient, ServiceOfferingServiceClient serviceOfferingServiceClient,
+			UserServiceClient userServiceClient, PlatformTransactionManager transactionManager) {
+		this.bookingViewRepository = bookingViewRepository;
+		this.bookingMapper = bookingMapper;
+		this.salonServiceClient = salonServiceClient;
+		this.serviceOfferingServiceClient = serviceOfferingServiceClient;
+		this.userServiceClient = userServiceClient;
+		this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * Stores the details of a new booking, in the caller's transaction.
+	 */
+	public void record(Booking booking, SalonResponseDto salon, UserDto customer,
+			List<ServiceOfferingResponseDto> services) {
+		bookingViewRepository.save(toView(booking, salon, customer, services));
+	}
+
+	/**
+	 * Stores the details of new bookings that share salon, customer and
+	 * services, in the caller's transaction.
+	 */
+	public void recordAll(List<Booking> bookings, SalonResponseDto salon, UserDto customer,
+			List<ServiceOfferingResponseDto> services) {
+		bookingViewRepository.saveAll(bookings.stream().map(booking -> toView(booking, salon, customer, services)).toList());
+	}
+
+	public List<BookingResponseDto> toResponseDtos(List<Booking> bookings) {
+		if (bookings.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		Map<Long, BookingView> views = bookingViewRepository
+				.findAllById(bookings.stream().map(Booking::getId).toList()).stream()
+				.collect(Collectors.toMap(BookingView::getBookingId, Function.identity()));
+
+		List<Booking> missing = bookings.stream().filter(booking -> !views.containsKey(booking.getId())).toList();
+		if (!missing.isEmpty()) {
+			views.putAll(fetchViews(missing));
+		}
+
+		return bookings.stream().map(booking -> toResponseDto(booking, views.get(booking.getId())))
+				.collect(Collectors.toList());
+	}
+
+	@Transactional
+	public void applySalonUpdate(SalonUpdatedEventDto event) {
+		int updated = bookingViewRepository.updateSalonDetails(event.getSalonId(), event.getSalonName(),
+				event.getAddress(), event.getCity(), event.getState(), event.getZipcode(), event.getContactNumber());
+		LOGGER.info("Refreshed salon details of {} booking views for salon {}", updated, event.getSalonId());
+	}
+
+	@Transactional
+	public void applyCustomerUpdate(UserUpdatedEventDto event) {
+		int updated = bookingViewRepository.updateCustomerDetails(event.getUserId(), event.getFirstName(),
+				event.getLastName(), event.getEmail());
+		LOGGER.info("Refreshed customer details of {} booking views for user {}", updated, event.getUserId());
+	}
+
+	/**
+	 * Hydrates bookings without a stored view with bulk calls to the owning
+	 * services. Only views whose salon, customer and services were all found are
+	 * stored, in their own transaction so that a conflicting insert does not
+	 * spoil the caller's one; the others are hydrated again on the next read.
+	 */
+	private Map<Long, BookingView> fetchViews(List<Booking> bookings) {
+		Set<Long> salonIds = bookings.stream().map(Booking::getSalonId).collect(Collectors.toSet());
+		Set<String> customerUserIds = bookings.stream().map(Booking::getCustomerUserId).collect(Collectors.toSet());
+		Set<Long> serviceIds = bookings.stream().flatMap(booking -> booking.getServiceIds().stream())
+				.collect(Collectors.toSet());
+
+		// Fetch salons
+		Map<Long, SalonResponseDto> salons = salonServiceClient.getSalonsByIds(salonIds).getBody().stream()
+				.collect(Collectors.toMap(SalonResponseDto::getSalonId, Function.identity(), (first, second) -> first));
+
+		// Fetch customers
+		Map<String, UserDto> customers = UserBatch.partition(customerUserIds).stream()
+				.flatMap(chunk -> userServiceClient.getUsersByUserIds(chunk).getBody().stream())
+				.collect(Collectors.toMap(UserDto::getUserId, Function.identity(), (first, second) -> first));
+
+		// Fetch services
+		Map<Long, ServiceOfferingResponseDto> services = serviceIds.isEmpty() ? Map.of()
+				: serviceOfferingServiceClient.getServiceOfferingByIds(serviceIds).getBody().stream()
+						.collect(Collectors.toMap(ServiceOfferingResponseDto::getId, Function.identity(),
+								(first, second) -> first));
+
+		Map<Long, BookingView> views = new HashMap<>();
+		List<BookingView> complete = new ArrayList<>();
+		for (Booking booking : bookings) {
+			SalonResponseDto salon = salons.get(booking.getSalonId());
+			UserDto customer = customers.get(booking.getCustomerUserId());
+			List<ServiceOfferingResponseDto> bookedServices = booking.getServiceIds().stream().map(services::get)
+					.filter(Objects::nonNull).toList();
+
+			BookingView view = toView(booking, salon, customer, bookedServices);
+			views.put(booking.getId(), view);
+			if (salon != null && customer != null && bookedServices.size() == booking.getServiceIds().size()) {
+				complete.add(view);
+			}
+		}
+
+		if (!complete.isEmpty()) {
+			try {
+				newTransactionTemplate.executeWithoutResult(status -> bookingViewRepository.saveAll(complete));
+			} catch (DataIntegrityViolationException e) {
+				// Another request stored some of the same views first
+				LOGGER.debug("Booking views already stored: {}", e.getMessage());
+			}
+		}
+		return views;
+	}
+
+	private static BookingView toView(Booking booking, SalonResponseDto salon, UserDto customer,
+			List<ServiceOfferingResponseDto> services) {
+		BookingView view = new BookingView();
+		view.setBookingId(booking.getId());
+		view.setSalonId(booking.getSalonId());
+		if (salon != null) {
+			view.setSalonName(salon.getSalonName());
+			view.setSalonAddress(salon.getAddress());
+			view.setSalonCity(salon.getCity());
+			view.setSalonState(salon.getState());
+			view.setSalonZipcode(salon.getZipcode());
+			view.setSalonContactNumber(salon.getContactNumber());
+		}
+		if (customer != null) {
+			view.setCustomerFirstName(customer.getFirstName());
+			view.setCustomerLastName(customer.getLastName());
+			view.setCustomerEmail(customer.getEmail());
+		}
+		view.setServices(services.stream().map(service -> new ServiceSnapshot(service.getId(), service.getName(),
+				service.getPrice(), service.getDuration())).toList());
+		return view;
+	}
+
+	private BookingResponseDto toResponseDto(Booking booking, BookingView view) {
+		BookingResponseDto responseDto = bookingMapper.toDTO(booking);
+		responseDto.setSalon(new BookingSalonSummaryDto(view.getSalonId(), view.getSalonName(),
+				view.getSalonAddress(), view.getSalonCity(), view.getSalonState(), view.getSalonZipcode(),
+				view.getSalonContactNumber()));
+		responseDto.setCustomer(new BookingCustomerSummaryDto(booking.getCustomerUserId(),
+				view.getCustomerFirstName(), view.getCustomerLastName(), view.getCustomerEmail()));
+		responseDto.setServices(view.getServices().stream().map(service -> new BookingServiceSummaryDto(service.id(),
+				service.name(), service.price(), service.duration())).collect(Collectors.toList()));
+		return responseDto;
+	}
+}
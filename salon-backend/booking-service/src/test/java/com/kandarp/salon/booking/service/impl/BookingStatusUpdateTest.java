@@ -0,0 +1,173 @@
+package com.kandarp.salon.booking.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.booking.mapper.BookingMapper;
+import com.kandarp.salon.booking.messaging.NotificationEventProducer;
+import com.kandarp.salon.booking.repository.BookingRepository;
+import com.kandarp.salon.booking.repository.SalonBookingStatsRepository;
+import com.kandarp.salon.booking.service.client.PaymentServiceClient;
+import com.kandarp.salon.booking.service.client.SalonServiceClient;
+import com.kandarp.salon.booking.service.client.ServiceOfferingServiceClient;
+import com.kandarp.salon.booking.service.client.UserServiceClient;
+import com.kandarp.salon.booking.service.export.BookingExporter;
+import com.kandarp.salon.booking.service.feed.BookingFeedPublisher;
+import com.kandarp.salon.booking.service.feed.SalonFeedRegistry;
+import com.kandarp.salon.booking.service.idempotency.IdempotencyKeys;
+import com.kandarp.salon.booking.service.slot.BookingSlotIndex;
+import com.kandarp.salon.booking.service.slot.SalonDayLocks;
+import com.kandarp.salon.booking.service.view.BookingViewStore;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+import com.kandarp.salon.shared.booking.dto.BookingResponseDto;
+import com.kandarp.salon.shared.salon.dto.SalonResponseDto;
+import com.kandarp.salon.shared.user.dto.UserDto;
+
+/**
+ * Under MySQL REPEATABLE READ the first plain read of a transaction fixes its
+ * snapshot. If any booking is read before the salon day is locked, a reload of
+ * the day after the lock misses bookings committed meanwhile and re-activating
+ * a booking can overbook the slot. The salon day lock must therefore be the
+ * first statement of the transaction that changes the status, and the remote
+ * ownership check must run outside of it.
+ */
+class BookingStatusUpdateTest {
+
+	private static final Long BOOKING_ID = 7L;
+	private static final Long SALON_ID = 1L;
+	private static final String OWNER_ID = "owner";
+	private static final LocalDateTime START_TIME = LocalDateTime.of(2030, 1, 7, 10, 0);
+
+	private final List<String> statements = new ArrayList<>();
+
+	private BookingRepository bookingRepository;
+	private SalonServiceClient salonServiceClient;
+	private BookingSlotIndex bookingSlotIndex;
+	private SalonDayLocks salonDayLocks;
+	private BookingViewStore bookingViewStore;
+	private BookingServiceImpl bookingService;
+
+	@BeforeEach
+	void setUp() {
+		bookingRepository = mock(BookingRepository.class);
+		salonServiceClient = mock(SalonServiceClient.class);
+		bookingSlotIndex = mock(BookingSlotIndex.class);
+		salonDayLocks = mock(SalonDayLocks.class);
+		bookingViewStore = mock(BookingViewStore.class);
+
+		bookingService = new BookingServiceImpl(bookingRepository, mock(SalonBookingStatsRepository.class),
+				mock(BookingMapper.class), salonServiceClient, mock(ServiceOfferingServiceClient.class),
+				mock(UserServiceClient.class), mock(PaymentServiceClient.class),
+				mock(NotificationEventProducer.class), bookingSlotIndex, salonDayLocks, mock(ExecutorService.class),
+				new TransactionTemplate(new RecordingTransactionManager()), bookingViewStore,
+				mock(BookingExporter.class), mock(BookingFeedPublisher.class), mock(SalonFeedRegistry.class),
+				mock(IdempotencyKeys.class));
+
+		when(bookingRepository.findById(BOOKING_ID)).thenAnswer(invocation -> {
+			statements.add("read booking");
+			return Optional.of(newBooking(BookingStatus.CANCELLED));
+		});
+		when(bookingRepository.lockById(BOOKING_ID)).thenAnswer(invocation -> {
+			statements.add("lock booking");
+			return Optional.of(newBooking(BookingStatus.CANCELLED));
+		});
+		when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(salonServiceClient.getSalonById(SALON_ID)).thenAnswer(invocation -> {
+			statements.add("fetch salon");
+			return ResponseEntity.ok(newSalon());
+		});
+		when(salonDayLocks.lock(eq(SALON_ID), any(LocalDate.class))).thenAnswer(invocation -> {
+			statements.add("lock salon day");
+			return 3L;
+		});
+		when(bookingViewStore.toResponseDtos(anyList())).thenReturn(List.of(new BookingResponseDto()));
+	}
+
+	@Test
+	void reactivationLocksTheSalonDayBeforeReadingBookings() {
+		when(bookingSlotIndex.isAvailable(eq(SALON_ID), any(), any(), anyInt(), anyLong())).thenAnswer(invocation -> {
+			statements.add("check availability");
+			return true;
+		});
+
+		bookingService.updateBookingStatus(BOOKING_ID, BookingStatus.CONFIRMED, OWNER_ID);
+
+		int begin = statements.indexOf("begin");
+		assertTrue(begin >= 0, "status change must run in a transaction: " + statements);
+		assertEquals("lock salon day", statements.get(begin + 1),
+				"salon day must be locked before any read of the transaction: " + statements);
+		assertTrue(statements.indexOf("fetch salon") < begin,
+				"ownership check must run before the transaction: " + statements);
+		assertTrue(statements.indexOf("check availability") > statements.indexOf("lock booking"),
+				"availability must be checked after the booking is locked: " + statements);
+	}
+
+	private static Booking newBooking(BookingStatus status) {
+		Booking booking = new Booking();
+		booking.setId(BOOKING_ID);
+		booking.setSalonId(SALON_ID);
+		booking.setCustomerUserId("customer");
+		booking.setStartTime(START_TIME);
+		booking.setEndTime(START_TIME.plusMinutes(30));
+		booking.setStatus(status);
+		booking.setTotalPrice(BigDecimal.TEN);
+		return booking;
+	}
+
+	private static SalonResponseDto newSalon() {
+		UserDto owner = new UserDto();
+		owner.setUserId(OWNER_ID);
+		SalonResponseDto salon = new SalonResponseDto();
+		salon.setSalonId(SALON_ID);
+		salon.setCapacity(2);
+		salon.setUser(owner);
+		return salon;
+	}
+
+	/**
+	 * Records where transactions begin and end among the statements.
+	 */
+	private class RecordingTransactionManager implements PlatformTransactionManager {
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			statements.add("begin");
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+			statements.add("commit");
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+			statements.add("rollback");
+		}
+	}
+}
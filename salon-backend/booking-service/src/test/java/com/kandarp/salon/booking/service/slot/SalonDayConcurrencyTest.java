@@ -0,0 +1,275 @@
+package com.kandarp.salon.booking.service.slot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kandarp.salon.booking.entity.Booking;
+import com.kandarp.salon.booking.repository.BookingRepository;
+import com.kandarp.salon.booking.repository.BookingSlotProjection;
+import com.kandarp.salon.booking.repository.SalonDayGuardRepository;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+
+/**
+ * Runs many threads on two simulated nodes against one salon day. Each node has
+ * its own {@link SalonDayLocks} and {@link BookingSlotIndex}. The nodes share a
+ * fake database: the committed bookings, the guard version and a lock that
+ * stands in for the guard row lock. A booking commits, and so releases the
+ * guard row, before the node applies it to its index, as with a real
+ * transaction. At no point may more than the salon's capacity be booked in any
+ * minute.
+ * <p>
+ * The fake database has no snapshots: every read sees the latest writes. The
+ * test therefore covers the locking and caching of the slot index, not
+ * transaction isolation; a read that runs before the salon day lock under
+ * REPEATABLE READ, as checked by BookingStatusUpdateTest, is invisible here.
+ */
+class SalonDayConcurrencyTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SalonDayConcurrencyTest.class);
+
+	private static final Long SALON_ID = 1L;
+	private static final LocalDate DAY = LocalDate.of(2030, 1, 7);
+	private static final LocalDateTime OPEN_TIME = DAY.atTime(9, 0);
+	private static final int OPEN_MINUTES = 10 * 60;
+	private static final int CAPACITY = 3;
+
+	private static final int NODES = 2;
+	private static final int THREADS_PER_NODE = 16;
+	private static final int ATTEMPTS_PER_THREAD = 500;
+
+	private final Map<Long, Booking> database = new ConcurrentHashMap<>();
+	private final AtomicLong guardVersion = new AtomicLong();
+	private final ReentrantLock guardRow = new ReentrantLock();
+	private final AtomicLong bookingIds = new AtomicLong();
+
+	private final LongAdder accepted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder cancelled = new LongAdder();
+	private final LongAdder overbooked = new LongAdder();
+
+	@Test
+	void concurrentBookingsNeverExceedCapacity() throws Exception {
+		List<Node> nodes = new ArrayList<>();
+		for (int i = 0; i < NODES; i++) {
+			nodes.add(newNode());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(NODES * THREADS_PER_NODE);
+		List<Future<?>> workers = new ArrayList<>();
+		long started = System.nanoTime();
+		for (Node node : nodes) {
+			for (int i = 0; i < THREADS_PER_NODE; i++) {
+				workers.add(executor.submit(() -> {
+					for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+						attempt(node);
+					}
+				}));
+			}
+		}
+		for (Future<?> worker : workers) {
+			worker.get(2, TimeUnit.MINUTES);
+		}
+		long elapsedNanos = System.nanoTime() - started;
+		executor.shutdown();
+
+		long attempts = (long) NODES * THREADS_PER_NODE * ATTEMPTS_PER_THREAD;
+		LOGGER.debug("{} attempts on {} nodes x {} threads in {} ms: {} accepted, {} rejected, {} cancelled",
+				attempts, NODES, THREADS_PER_NODE, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), accepted.sum(),
+				rejected.sum(), cancelled.sum());
+
+		assertEquals(0, overbooked.sum(), "bookings accepted above capacity");
+		assertTrue(maxOccupancy() <= CAPACITY, "final occupancy above capacity");
+		assertTrue(accepted.sum() > 0 && rejected.sum() > 0, "expected contention for the salon day");
+	}
+
+	/**
+	 * Books a random slot, or now and then cancels a random active booking so
+	 * that freed capacity is resold.
+	 */
+	private void attempt(Node node) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (random.nextInt(10) == 0) {
+			cancelAny(node);
+			return;
+		}
+
+		int duration = 15 * (2 + random.nextInt(5));
+		LocalDateTime startTime = OPEN_TIME.plusMinutes(15 * random.nextInt((OPEN_MINUTES - duration) / 15 + 1));
+		LocalDateTime endTime = startTime.plusMinutes(duration);
+
+		boolean booked = inTransaction(() -> {
+			long version = node.locks().lock(SALON_ID, DAY);
+			if (!node.index().isAvailable(SALON_ID, startTime, endTime, CAPACITY, version)) {
+				return false;
+			}
+			Booking booking = newBooking(startTime, endTime);
+			database.put(booking.getId(), booking);
+			if (maxOccupancy() > CAPACITY) {
+				overbooked.increment();
+			}
+			node.index().update(booking, node.locks().advance(SALON_ID, DAY, version));
+			return true;
+		});
+		(booked ? accepted : rejected).increment();
+	}
+
+	private void cancelAny(Node node) {
+		boolean cancelledOne = inTransaction(() -> {
+			long version = node.locks().lock(SALON_ID, DAY);
+			Booking booking = database.values().stream()
+					.filter(candidate -> candidate.getStatus() == BookingStatus.PENDING).findAny().orElse(null);
+			if (booking == null) {
+				return false;
+			}
+			booking.setStatus(BookingStatus.CANCELLED);
+			node.index().update(booking, node.locks().advance(SALON_ID, DAY, version));
+			return true;
+		});
+		if (cancelledOne) {
+			cancelled.increment();
+		}
+	}
+
+	/**
+	 * Highest number of active bookings in any minute of the day, from the
+	 * fake database.
+	 */
+	private int maxOccupancy() {
+		int[] minutes = new int[24 * 60];
+		for (Booking booking : database.values()) {
+			if (!BookingSlotIndex.ACTIVE_STATUSES.contains(booking.getStatus())) {
+				continue;
+			}
+			int from = booking.getStartTime().toLocalTime().toSecondOfDay() / 60;
+			int to = booking.getEndTime().toLocalTime().toSecondOfDay() / 60;
+			for (int minute = from; minute < to; minute++) {
+				minutes[minute]++;
+			}
+		}
+		int max = 0;
+		for (int count : minutes) {
+			max = Math.max(max, count);
+		}
+		return max;
+	}
+
+	private Node newNode() {
+		SalonDayGuardRepository salonDayGuardRepository = mock(SalonDayGuardRepository.class);
+		doAnswer(invocation -> {
+			guardRow.lock();
+			return null;
+		}).when(salonDayGuardRepository).insertOrLock(SALON_ID, DAY);
+		when(salonDayGuardRepository.lockVersion(SALON_ID, DAY)).thenAnswer(invocation -> guardVersion.get());
+		doAnswer(invocation -> guardVersion.incrementAndGet()).when(salonDayGuardRepository)
+				.incrementVersion(SALON_ID, DAY);
+
+		BookingRepository bookingRepository = mock(BookingRepository.class);
+		when(bookingRepository.findSlotsBySalonIdAndRange(eq(SALON_ID), any(), any(), any()))
+				.thenAnswer(invocation -> database.values().stream()
+						.filter(booking -> BookingSlotIndex.ACTIVE_STATUSES.contains(booking.getStatus()))
+						.map(SalonDayConcurrencyTest::toSlot).toList());
+
+		BookingSlotIndex bookingSlotIndex = new BookingSlotIndex(bookingRepository);
+		ReflectionTestUtils.setField(bookingSlotIndex, "ttl", Duration.ofMinutes(5));
+		ReflectionTestUtils.setField(bookingSlotIndex, "maxDays", 100);
+		return new Node(new SalonDayLocks(salonDayGuardRepository), bookingSlotIndex);
+	}
+
+	/**
+	 * Runs the body like a transaction: the guard row is released on commit,
+	 * then the after-commit and after-completion callbacks run.
+	 */
+	private <T> T inTransaction(Supplier<T> body) {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			T result = body.get();
+			releaseGuardRow();
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager
+					.getSynchronizations();
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+			synchronizations.forEach(
+					synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+			return result;
+		} catch (RuntimeException e) {
+			releaseGuardRow();
+			TransactionSynchronizationManager.getSynchronizations().forEach(
+					synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+			throw e;
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private void releaseGuardRow() {
+		while (guardRow.isHeldByCurrentThread()) {
+			guardRow.unlock();
+		}
+	}
+
+	private Booking newBooking(LocalDateTime startTime, LocalDateTime endTime) {
+		Booking booking = new Booking();
+		booking.setId(bookingIds.incrementAndGet());
+		booking.setSalonId(SALON_ID);
+		booking.setCustomerUserId("customer");
+		booking.setStartTime(startTime);
+		booking.setEndTime(endTime);
+		booking.setStatus(BookingStatus.PENDING);
+		booking.setTotalPrice(BigDecimal.TEN);
+		return booking;
+	}
+
+	private static BookingSlotProjection toSlot(Booking booking) {
+		Long id = booking.getId();
+		LocalDateTime startTime = booking.getStartTime();
+		LocalDateTime endTime = booking.getEndTime();
+		return new BookingSlotProjection() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public LocalDateTime getStartTime() {
+				return startTime;
+			}
+
+			@Override
+			public LocalDateTime getEndTime() {
+				return endTime;
+			}
+		};
+	}
+
+	private record Node(SalonDayLocks locks, BookingSlotIndex index) {
+	}
+}
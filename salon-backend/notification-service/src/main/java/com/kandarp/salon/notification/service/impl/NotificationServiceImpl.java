@@ -16,10 +16,11 @@ import com.kandarp.salon.notification.repository.NotificationRepository;
 import com.kandarp.salon.notification.service.NotificationService;
 import com.kandarp.salon.notification.service.client.BookingServiceClient;
 import com.kandarp.salon.notification.service.client.SalonServiceClient;
+import com.kandarp.salon.shared.booking.dto.BookingCustomerSummaryDto;
 import com.kandarp.salon.shared.booking.dto.BookingResponseDto;
+import com.kandarp.salon.shared.booking.dto.BookingSalonSummaryDto;
 import com.kandarp.salon.shared.constant.NotificationType;
 import com.kandarp.salon.shared.salon.dto.SalonResponseDto;
-import com.kandarp.salon.shared.user.dto.UserDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -50,7 +51,7 @@ public class NotificationServiceImpl implements NotificationService {
 			ResponseEntity<BookingResponseDto> responseEntity = bookingServiceClient
 					.getBookingById(notification.getBookingId());
 			BookingResponseDto bookingResponseDto = responseEntity.getBody();
-			SalonResponseDto salon = bookingResponseDto.getSalon();
+			BookingSalonSummaryDto salon = bookingResponseDto.getSalon();
 			NotificationDto dto = notificationMapper.toDTO(notification);
 			if (NotificationType.NOTIFICATION_TYPE_BOOKING.equalsIgnoreCase(dto.getType())) {
 				dto.setDescription("New Booking with " + salon.getSalonName() + " confirmed.");
@@ -70,7 +71,7 @@ public class NotificationServiceImpl implements NotificationService {
 			ResponseEntity<BookingResponseDto> responseEntity = bookingServiceClient
 					.getBookingById(notification.getBookingId());
 			BookingResponseDto bookingResponseDto = responseEntity.getBody();
-			UserDto customer = bookingResponseDto.getCustomer();
+			BookingCustomerSummaryDto customer = bookingResponseDto.getCustomer();
 			NotificationDto dto = notificationMapper.toDTO(notification);
 			if (NotificationType.NOTIFICATION_TYPE_BOOKING.equalsIgnoreCase(dto.getType())) {
 				dto.setDescription(
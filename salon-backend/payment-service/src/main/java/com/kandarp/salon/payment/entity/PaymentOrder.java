@@ -1,17 +1,23 @@
 package com.kandarp.salon.payment.entity;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
 
 import com.kandarp.salon.shared.payment.constant.PaymentMethod;
 import com.kandarp.salon.shared.payment.constant.PaymentOrderStatus;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 
 @Entity
@@ -41,6 +47,13 @@ public class PaymentOrder {
 	@Column(nullable = false)
 	private Long bookingId;
 
+	// Every booking the order pays for; empty for orders of a single booking
+	// made before bulk bookings existed
+	@ElementCollection(fetch = FetchType.EAGER)
+	@CollectionTable(name = "payment_order_bookings", joinColumns = @JoinColumn(name = "payment_order_id"))
+	@Column(name = "booking_id")
+	private Set<Long> bookingIds = new HashSet<>();
+
 	@Column(nullable = false)
 	private Long salonId;
 
@@ -100,6 +113,14 @@ public class PaymentOrder {
 		this.bookingId = bookingId;
 	}
 
+	public Set<Long> getBookingIds() {
+		return bookingIds;
+	}
+
+	public void setBookingIds(Set<Long> bookingIds) {
+		this.bookingIds = bookingIds;
+	}
+
 	public Long getSalonId() {
 		return salonId;
 	}
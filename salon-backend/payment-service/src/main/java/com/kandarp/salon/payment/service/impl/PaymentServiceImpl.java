@@ -1,7 +1,9 @@
 package com.kandarp.salon.payment.service.impl;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +58,12 @@ public class PaymentServiceImpl implements PaymentService {
 		order.setCustomerUserId(paymentOrderRequestDto.getCustomerUserId());
 		order.setAmount(paymentOrderRequestDto.getTotalAmount());
 		order.setBookingId(paymentOrderRequestDto.getBookingId());
+		Set<Long> bookingIds = new LinkedHashSet<>();
+		bookingIds.add(paymentOrderRequestDto.getBookingId());
+		if (paymentOrderRequestDto.getBookingIds() != null) {
+			bookingIds.addAll(paymentOrderRequestDto.getBookingIds());
+		}
+		order.setBookingIds(bookingIds);
 		order.setSalonId(paymentOrderRequestDto.getSalonId());
 		order.setPaymentMethod(paymentOrderRequestDto.getPaymentMethod());
 		PaymentOrder savedOrder = paymentOrderRepository.save(order);
@@ -115,8 +123,11 @@ public class PaymentServiceImpl implements PaymentService {
 		
 		paymentOrderRepository.save(order);
 		
-		if(status == PaymentOrderStatus.SUCCESS)
-		bookingEventProducer.sendBookingUpdateEvent(order.getBookingId());
+		if (status == PaymentOrderStatus.SUCCESS) {
+			Set<Long> bookingIds = order.getBookingIds().isEmpty() ? Set.of(order.getBookingId())
+					: order.getBookingIds();
+			bookingIds.forEach(bookingEventProducer::sendBookingUpdateEvent);
+		}
 
 		
 		LOGGER.info("Updated PaymentOrder {} to {} for session {}", orderId, status, sessionId);
@@ -1,9 +1,14 @@
 package com.kandarp.salon.review.client;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.kandarp.salon.shared.user.dto.UserDto;
 
@@ -19,5 +24,8 @@ public interface UserServiceClient {
 	@GetMapping("/api/v1/users/{userId}")
 	public ResponseEntity<UserDto> getUserByUserId(@PathVariable String userId);
 	
+	@PostMapping(value = "/api/v1/users/batch", consumes = "application/json")
+	public ResponseEntity<List<UserDto>> getUsersByUserIds(@RequestBody Set<String> userIds);
+	
 
 }
@@ -1,6 +1,10 @@
 package com.kandarp.salon.review.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.http.ResponseEntity;
@@ -16,6 +20,7 @@ import com.kandarp.salon.review.service.ReviewService;
 import com.kandarp.salon.shared.review.dto.ReviewRequestDto;
 import com.kandarp.salon.shared.review.dto.ReviewResponseDto;
 import com.kandarp.salon.shared.salon.dto.SalonResponseDto;
+import com.kandarp.salon.shared.user.constant.UserBatch;
 import com.kandarp.salon.shared.user.dto.UserDto;
 
 import lombok.RequiredArgsConstructor;
@@ -97,7 +102,18 @@ public class ReviewServiceImpl implements ReviewService {
 		SalonResponseDto salon = salonResponse.getBody();
 
 		List<Review> reviews = reviewRepository.findBySalonId(salonId);
-		return reviews.stream().map(review -> buildResponseDto(review, salon, null)).collect(Collectors.toList());
+		if (reviews.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		// Fetch reviewers in batches instead of one call per review
+		Set<String> userIds = reviews.stream().map(Review::getUserId).collect(Collectors.toSet());
+		Map<String, UserDto> users = UserBatch.partition(userIds).stream()
+				.flatMap(chunk -> userServiceClient.getUsersByUserIds(chunk).getBody().stream())
+				.collect(Collectors.toMap(UserDto::getUserId, Function.identity(), (first, second) -> first));
+
+		return reviews.stream().map(review -> toResponseDto(review, salon, users.get(review.getUserId())))
+				.collect(Collectors.toList());
 	}
 
 	@Override
@@ -123,6 +139,10 @@ public class ReviewServiceImpl implements ReviewService {
 			user = userResponse.getBody();
 		}
 
+		return toResponseDto(review, salon, user);
+	}
+
+	private ReviewResponseDto toResponseDto(Review review, SalonResponseDto salon, UserDto user) {
 		ReviewResponseDto responseDto = reviewMapper.toDto(review);
 		responseDto.setSalon(salon);
 		responseDto.setUser(user);
@@ -1,6 +1,7 @@
 package com.kandarp.salon.controller;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
@@ -67,6 +68,12 @@ public class SalonController {
 		return ResponseEntity.ok(responseDto);
 	}
 	
+	@GetMapping("/list/{ids}")
+	public ResponseEntity<List<SalonResponseDto>> getSalonsByIds(@PathVariable Set<Long> ids) {
+		List<SalonResponseDto> responseDtos = salonService.getSalonsByIds(ids);
+		return ResponseEntity.ok(responseDtos);
+	}
+	
 	@GetMapping("/searchs")
 	public ResponseEntity<List<SalonResponseDto>> searchSalons(@RequestParam String query) {
 		List<SalonResponseDto> responseDtos = salonService.searchSalons(query);
@@ -24,6 +24,13 @@ public class Salon {
 	private String ownerId;
 	private LocalTime openTime;
 	private LocalTime closeTime;
+
+	/**
+	 * Number of bookings the salon can serve at the same time, e.g. its chairs.
+	 */
+	@Column(nullable = false, columnDefinition = "int default 1")
+	private int capacity = 1;
+
 	private String address;
 	private String landmark;
 	private String city;
@@ -85,6 +92,14 @@ public class Salon {
 		this.closeTime = closeTime;
 	}
 
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
 	public String getAddress() {
 		return address;
 	}
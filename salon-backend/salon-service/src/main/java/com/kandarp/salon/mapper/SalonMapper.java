@@ -8,6 +8,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import com.kandarp.salon.entity.Salon;
 import com.kandarp.salon.shared.salon.dto.SalonCreationDto;
@@ -21,11 +22,13 @@ public interface SalonMapper {
     @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "salonImages", ignore = true)
     @Mapping(target = "active", expression = "java(true)")
+    @Mapping(target = "capacity", defaultValue = "1")
     Salon toEntity(SalonCreationDto dto);
 
     @Mapping(target = "salonId", ignore = true)
     @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "salonImages", ignore = true)
+    @Mapping(target = "capacity", defaultValue = "1")
     Salon toEntity(SalonRequestDto dto);
 
     @Mapping(source = "salonImages", target = "salonImages", qualifiedByName = "prependImageUrlPrefix")
@@ -35,6 +38,7 @@ public interface SalonMapper {
     @Mapping(target = "salonId", ignore = true)
     @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "salonImages", ignore = true)
+    @Mapping(target = "capacity", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(SalonRequestDto dto, @MappingTarget Salon entity);
 
     @Named("prependImageUrlPrefix")
@@ -0,0 +1,26 @@
+package com.kandarp.salon.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kandarp.salon.shared.constant.Messaging;
+import com.kandarp.salon.shared.salon.dto.SalonUpdatedEventDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SalonEventProducer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SalonEventProducer.class);
+
+	private final RabbitTemplate rabbitTemplate;
+
+	public void sendSalonUpdatedEvent(SalonUpdatedEventDto salonUpdatedEventDto) {
+		LOGGER.info("Sending salon updated event for salon {}", salonUpdatedEventDto.getSalonId());
+		rabbitTemplate.convertAndSend(Messaging.SALON_EXCHANGE, Messaging.SALON_EXCHANGE_UPDATED_ROUTING_KEY,
+				salonUpdatedEventDto);
+	}
+}
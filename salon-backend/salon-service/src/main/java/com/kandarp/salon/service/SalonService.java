@@ -2,6 +2,7 @@ package com.kandarp.salon.service;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,8 @@ public interface SalonService {
 
 	List<SalonResponseDto> getAllSalons();
 
+	List<SalonResponseDto> getSalonsByIds(Set<Long> ids);
+
 	SalonResponseDto getSalonByOwnerId(String ownerId);
 
 	SalonResponseDto updateSalon(Long id, String userId, SalonRequestDto dto, MultipartFile[] images);
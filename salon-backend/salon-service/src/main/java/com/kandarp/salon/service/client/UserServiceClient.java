@@ -1,5 +1,8 @@
 package com.kandarp.salon.service.client;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,5 +28,8 @@ public interface UserServiceClient {
 	@GetMapping("/api/v1/users/{userId}")
 	public ResponseEntity<UserDto> getUserByUserId(@PathVariable String userId);
 	
+	@PostMapping(value = "/api/v1/users/batch", consumes = "application/json")
+	public ResponseEntity<List<UserDto>> getUsersByUserIds(@RequestBody Set<String> userIds);
+	
 
 }
@@ -8,6 +8,10 @@ import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -26,6 +30,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.kandarp.salon.entity.Salon;
 import com.kandarp.salon.entity.SalonDocument;
 import com.kandarp.salon.mapper.SalonMapper;
+import com.kandarp.salon.messaging.SalonEventProducer;
 import com.kandarp.salon.repository.SalonDocumentRepository;
 import com.kandarp.salon.repository.SalonRepository;
 import com.kandarp.salon.service.SalonService;
@@ -33,8 +38,10 @@ import com.kandarp.salon.service.client.UserServiceClient;
 import com.kandarp.salon.shared.salon.dto.SalonCreationDto;
 import com.kandarp.salon.shared.salon.dto.SalonRequestDto;
 import com.kandarp.salon.shared.salon.dto.SalonResponseDto;
+import com.kandarp.salon.shared.salon.dto.SalonUpdatedEventDto;
 import com.kandarp.salon.shared.user.dto.UserCreationDto;
 import com.kandarp.salon.shared.user.dto.UserCreationResponseDto;
+import com.kandarp.salon.shared.user.constant.UserBatch;
 import com.kandarp.salon.shared.user.dto.UserDto;
 
 import lombok.RequiredArgsConstructor;
@@ -50,6 +57,7 @@ public class SalonServiceImpl implements SalonService {
 
 	private final UserServiceClient userServiceClient;
 	private final SalonMapper salonMapper;
+	private final SalonEventProducer salonEventProducer;
 
 	@Value("${salon.image.upload.dir}")
 	private String uploadDir;
@@ -115,6 +123,11 @@ public class SalonServiceImpl implements SalonService {
 
 		Salon updated = salonRepository.save(salon);
 
+		// Let services that keep copies of the salon details refresh them
+		salonEventProducer.sendSalonUpdatedEvent(new SalonUpdatedEventDto(updated.getSalonId(), updated.getSalonName(),
+				updated.getAddress(), updated.getCity(), updated.getState(), updated.getZipcode(),
+				updated.getContactNumber()));
+
 		// Fetch user details for response
 		ResponseEntity<UserDto> userDtoResponse = userServiceClient.getUserByUserId(salon.getOwnerId());
 
@@ -137,25 +150,26 @@ public class SalonServiceImpl implements SalonService {
 		List<Salon> salons = salonRepository.findAll();
 		LOGGER.info("All Salon Fetched");
 
-		return salons.stream().map(salon -> {
-			ResponseEntity<UserDto> userDtoResponse = userServiceClient.getUserByUserId(salon.getOwnerId());
-			SalonResponseDto dto = salonMapper.toDto(salon, imageUrlPrefix);
-			dto.setUser(userDtoResponse.getBody());
-			return dto;
-		}).collect(Collectors.toList());
+		return toResponseDtos(salons);
+	}
+	
+	@Override
+	public List<SalonResponseDto> getSalonsByIds(Set<Long> ids) {
+		return toResponseDtos(salonRepository.findAllById(ids));
 	}
 	
 	@Override
 	public List<SalonResponseDto> searchSalons(String query) {
 		 List<SalonDocument> salonDocuments = salonDocumentRepository.findBySalonNameOrCityOrServiceNamesContainingIgnoreCase(query,query,query);
 
-		return salonDocuments.stream().map(salonDoc -> {
-			Salon salon = salonRepository.findById(salonDoc.getSalonId()).orElseThrow();
-			ResponseEntity<UserDto> userDtoResponse = userServiceClient.getUserByUserId(salon.getOwnerId());
-			SalonResponseDto dto = salonMapper.toDto(salon, imageUrlPrefix);
-			dto.setUser(userDtoResponse.getBody());
-			return dto;
-		}).collect(Collectors.toList());
+		// Load all hits with one query and keep the search order. Hits whose salon
+		// is gone but still indexed are skipped.
+		Map<Long, Salon> salons = salonRepository
+				.findAllById(salonDocuments.stream().map(SalonDocument::getSalonId).collect(Collectors.toSet())).stream()
+				.collect(Collectors.toMap(Salon::getSalonId, Function.identity()));
+
+		return toResponseDtos(salonDocuments.stream().map(salonDoc -> salons.get(salonDoc.getSalonId()))
+				.filter(Objects::nonNull).distinct().toList());
 	}
 
 	@Override
@@ -205,6 +219,27 @@ public class SalonServiceImpl implements SalonService {
 		return Paths.get(uploadDir).toAbsolutePath().normalize();
 	}
 
+	/**
+	 * Maps salons to responses with their owners resolved by batch calls to
+	 * user-service. Owners the user service no longer knows are left empty.
+	 */
+	private List<SalonResponseDto> toResponseDtos(List<Salon> salons) {
+		if (salons.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		Set<String> ownerIds = salons.stream().map(Salon::getOwnerId).collect(Collectors.toSet());
+		Map<String, UserDto> owners = UserBatch.partition(ownerIds).stream()
+				.flatMap(chunk -> userServiceClient.getUsersByUserIds(chunk).getBody().stream())
+				.collect(Collectors.toMap(UserDto::getUserId, Function.identity(), (first, second) -> first));
+
+		return salons.stream().map(salon -> {
+			SalonResponseDto dto = salonMapper.toDto(salon, imageUrlPrefix);
+			dto.setUser(owners.get(salon.getOwnerId()));
+			return dto;
+		}).collect(Collectors.toList());
+	}
+
 	private List<String> uploadSalonImages(MultipartFile[] images) {
 		if (images == null || images.length == 0) {
 			return new ArrayList<>();
@@ -0,0 +1,6 @@
+package com.kandarp.salon.shared.booking.constant;
+
+public enum BookingExportFormat {
+    CSV,
+    NDJSON
+}
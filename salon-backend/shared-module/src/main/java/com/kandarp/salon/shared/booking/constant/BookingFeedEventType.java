@@ -0,0 +1,7 @@
+package com.kandarp.salon.shared.booking.constant;
+
+public enum BookingFeedEventType {
+    CREATED,
+    CONFIRMED,
+    STATUS_CHANGED
+}
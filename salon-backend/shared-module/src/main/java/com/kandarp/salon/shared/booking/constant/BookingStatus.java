@@ -3,5 +3,6 @@ package com.kandarp.salon.shared.booking.constant;
 public enum BookingStatus {
     PENDING,
     CONFIRMED,
-    CANCELLED
+    CANCELLED,
+    EXPIRED
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.kandarp.salon.shared.booking.constant;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY
+}
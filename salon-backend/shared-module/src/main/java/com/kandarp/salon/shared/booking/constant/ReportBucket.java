@@ -0,0 +1,7 @@
+package com.kandarp.salon.shared.booking.constant;
+
+public enum ReportBucket {
+    DAY,
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,22 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingAvailabilityDto {
+	private Long salonId;
+	private LocalDate date;
+	private long durationMinutes;
+	private long slotMinutes;
+	private List<LocalDateTime> availableStartTimes;
+}
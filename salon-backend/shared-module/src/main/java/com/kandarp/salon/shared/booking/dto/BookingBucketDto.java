@@ -0,0 +1,24 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingBucketDto {
+	private LocalDate bucketStart;
+	private LocalDate bucketEnd;
+	private long bookings;
+	private BigDecimal confirmedRevenue;
+	private long cancellations;
+	private long bookedMinutes;
+	// Opening hours times the salon's capacity, comparable to bookedMinutes
+	private long openMinutes;
+}
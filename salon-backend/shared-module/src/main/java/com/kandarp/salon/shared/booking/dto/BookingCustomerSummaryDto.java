@@ -0,0 +1,21 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Contact details of the customer of a booking as stored with it, refreshed
+ * when the user changes.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingCustomerSummaryDto {
+	private String userId;
+	private String firstName;
+	private String lastName;
+	private String email;
+}
@@ -0,0 +1,24 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.time.LocalDateTime;
+
+import com.kandarp.salon.shared.booking.constant.BookingFeedEventType;
+import com.kandarp.salon.shared.booking.constant.BookingStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingFeedEventDto {
+	private BookingFeedEventType type;
+	private Long bookingId;
+	private Long salonId;
+	private BookingStatus status;
+	private LocalDateTime startTime;
+	private LocalDateTime endTime;
+}
@@ -0,0 +1,18 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingPageDto {
+	private List<BookingResponseDto> bookings;
+	private String nextCursor;
+	private boolean hasNext;
+}
@@ -0,0 +1,35 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.time.LocalDateTime;
+
+import com.kandarp.salon.shared.booking.constant.RecurrenceFrequency;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Repeats a booking every {@code interval} days or weeks, starting at
+ * {@code firstStartTime}, for {@code occurrences} bookings in total.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingRecurrenceDto {
+
+	@NotNull(message = "First start time is required")
+	private LocalDateTime firstStartTime;
+
+	@NotNull(message = "Frequency is required")
+	private RecurrenceFrequency frequency;
+
+	@Min(value = 1, message = "Interval must be at least 1")
+	private int interval = 1;
+
+	@Min(value = 1, message = "At least one occurrence is required")
+	private int occurrences;
+}
@@ -5,15 +5,16 @@ import java.util.List;
 import java.util.Set;
 
 import com.kandarp.salon.shared.booking.constant.BookingStatus;
-import com.kandarp.salon.shared.salon.dto.SalonResponseDto;
-import com.kandarp.salon.shared.serviceoffering.dto.ServiceOfferingResponseDto;
-import com.kandarp.salon.shared.user.dto.UserDto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * A booking with summaries of its salon, customer and services, served from
+ * the local read model without calls to the owning services.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,7 +28,7 @@ public class BookingResponseDto {
 	private Set<Long> serviceIds;
 	private BookingStatus status;
 	private int totalPrice;
-	private SalonResponseDto salon;
-	private UserDto customer;
-	private List<ServiceOfferingResponseDto> services;
+	private BookingSalonSummaryDto salon;
+	private BookingCustomerSummaryDto customer;
+	private List<BookingServiceSummaryDto> services;
 }
\ No newline at end of file
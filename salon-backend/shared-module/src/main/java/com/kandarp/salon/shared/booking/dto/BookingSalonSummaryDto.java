@@ -0,0 +1,24 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Salon details of a booking as stored with it, refreshed when the salon
+ * changes. The full salon is available from salon-service.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSalonSummaryDto {
+	private Long salonId;
+	private String salonName;
+	private String address;
+	private String city;
+	private String state;
+	private String zipcode;
+	private String contactNumber;
+}
@@ -0,0 +1,22 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A booked service with the price and duration it had when it was booked.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingServiceSummaryDto {
+	private Long id;
+	private String name;
+	private BigDecimal price;
+	private long duration;
+}
@@ -0,0 +1,23 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of one requested slot of a bulk booking. Rejected slots carry the
+ * reason and no booking id.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSlotResultDto {
+	private LocalDateTime startTime;
+	private boolean accepted;
+	private Long bookingId;
+	private String reason;
+}
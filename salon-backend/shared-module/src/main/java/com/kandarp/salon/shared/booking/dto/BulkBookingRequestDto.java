@@ -0,0 +1,37 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import com.kandarp.salon.shared.payment.constant.PaymentMethod;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Books the same services for several slots, given either as explicit start
+ * times, as a recurrence rule, or both.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookingRequestDto {
+
+	private List<LocalDateTime> startTimes;
+
+	@Valid
+	private BookingRecurrenceDto recurrence;
+
+	@NotEmpty(message = "At least one service is required")
+	private Set<Long> serviceIds;
+
+	@NotNull(message = "Payment method is required")
+	private PaymentMethod paymentMethod;
+}
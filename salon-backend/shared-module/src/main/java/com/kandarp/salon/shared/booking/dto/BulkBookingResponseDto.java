@@ -0,0 +1,21 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Per-slot results of a bulk booking and the single payment link covering
+ * every accepted slot, or null if none was accepted.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookingResponseDto {
+	private List<BookingSlotResultDto> slots;
+	private String paymentLinkUrl;
+}
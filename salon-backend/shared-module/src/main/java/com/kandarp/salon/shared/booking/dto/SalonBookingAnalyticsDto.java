@@ -0,0 +1,23 @@
+package com.kandarp.salon.shared.booking.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.kandarp.salon.shared.booking.constant.ReportBucket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalonBookingAnalyticsDto {
+	private Long salonId;
+	private LocalDate from;
+	private LocalDate to;
+	private ReportBucket bucket;
+	private List<BookingBucketDto> buckets;
+}
@@ -1,5 +1,7 @@
 package com.kandarp.salon.shared.booking.dto;
 
+import java.math.BigDecimal;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,8 +12,8 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class SalonBookingReportDto {
-	private Double totalEarnings;
-	private Integer totalBookings;
-	private Integer cancelledBookings;
-	private Double totalRefund;
+	private BigDecimal totalEarnings;
+	private Long totalBookings;
+	private Long cancelledBookings;
+	private BigDecimal totalRefund;
 }
\ No newline at end of file
@@ -4,18 +4,25 @@ public class Messaging {
 	
 	public static final String PAYMENT_EXCHANGE="payment-exchange";
 	public static final String NOTIFICATION_EXCHANGE="notification-exchange";
+	public static final String SALON_EXCHANGE="salon-exchange";
+	public static final String BOOKING_FEED_EXCHANGE="booking-feed-exchange";
+	public static final String USER_EXCHANGE="user-exchange";
 
 	
 	
 	public static final String BOOKING_QUEUE = "booking-queue";
 	public static final String USER_QUEUE = "user-queue";
 	public static final String SALON_QUEUE = "salon-queue";
+	public static final String BOOKING_SALON_UPDATE_QUEUE = "booking-salon-update-queue";
+	public static final String BOOKING_USER_UPDATE_QUEUE = "booking-user-update-queue";
 
 	
 	
 	public static final String PAYMENT_EXCHANGE_BOOKING_ROUTING_KEY="payment.completed";
 	public static final String NOTIFICATION_EXCHANGE_USER_ROUTING_KEY="notification.user";
 	public static final String NOTIFICATION_EXCHANGE_SALON_ROUTING_KEY="notification.salon";
+	public static final String SALON_EXCHANGE_UPDATED_ROUTING_KEY="salon.updated";
+	public static final String USER_EXCHANGE_UPDATED_ROUTING_KEY="user.updated";
 
 
 
@@ -1,6 +1,7 @@
 package com.kandarp.salon.shared.payment.dto;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import com.kandarp.salon.shared.payment.constant.PaymentMethod;
 
@@ -29,4 +30,10 @@ public class PaymentOrderRequestDto {
 	
 	private PaymentMethod paymentMethod;
 
+	/**
+	 * Every booking paid by this order when it covers several of them;
+	 * bookingId is then the first one.
+	 */
+	private List<Long> bookingIds;
+
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.kandarp.salon.shared.salon.dto;
 
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -31,6 +32,9 @@ public class SalonRequestDto {
     @NotNull(message = "Close time is required")
     private LocalTime closeTime;
 
+    @Min(value = 1, message = "Capacity must be at least 1")
+    private Integer capacity;
+
     @NotBlank(message = "Address is required")
     @Size(min = 5, max = 255, message = "Address must be 5 to 255 characters long")
     private String address;
@@ -21,6 +21,7 @@ public class SalonResponseDto {
 	private boolean active;
 	private LocalTime openTime;
 	private LocalTime closeTime;
+	private Integer capacity;
 	private String address;
 	private String landmark;
 	private String city;
@@ -0,0 +1,20 @@
+package com.kandarp.salon.shared.salon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalonUpdatedEventDto {
+	private Long salonId;
+	private String salonName;
+	private String address;
+	private String city;
+	private String state;
+	private String zipcode;
+	private String contactNumber;
+}
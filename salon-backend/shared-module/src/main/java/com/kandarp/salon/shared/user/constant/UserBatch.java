@@ -0,0 +1,39 @@
+package com.kandarp.salon.shared.user.constant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Limit of the user-service batch lookup. Callers with more user IDs split them
+ * with {@link #partition(Collection)} and send one request per chunk. Requested
+ * IDs without a user in the response are listed in the
+ * {@link #MISSING_IDS_HEADER} header.
+ */
+public final class UserBatch {
+
+	public static final int MAX_SIZE = 100;
+
+	public static final String MISSING_IDS_HEADER = "X-Missing-User-Ids";
+
+	private UserBatch() {
+	}
+
+	public static List<Set<String>> partition(Collection<String> userIds) {
+		List<Set<String>> chunks = new ArrayList<>();
+		Set<String> chunk = new LinkedHashSet<>();
+		for (String userId : new LinkedHashSet<>(userIds)) {
+			chunk.add(userId);
+			if (chunk.size() == MAX_SIZE) {
+				chunks.add(chunk);
+				chunk = new LinkedHashSet<>();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			chunks.add(chunk);
+		}
+		return chunks;
+	}
+}
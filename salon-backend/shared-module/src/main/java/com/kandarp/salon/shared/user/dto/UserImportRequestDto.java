@@ -0,0 +1,23 @@
+package com.kandarp.salon.shared.user.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRequestDto {
+
+    @NotEmpty(message = "At least one user is required.")
+    @Size(max = 500, message = "At most 500 users can be imported at once.")
+    private List<@Valid UserCreationDto> users;
+
+}
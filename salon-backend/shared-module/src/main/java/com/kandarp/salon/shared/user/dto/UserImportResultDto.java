@@ -0,0 +1,19 @@
+package com.kandarp.salon.shared.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResultDto {
+
+    private String userName;
+    private String userId;
+    private boolean created;
+    private String error;
+
+}
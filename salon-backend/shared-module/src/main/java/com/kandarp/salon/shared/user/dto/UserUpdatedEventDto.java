@@ -0,0 +1,17 @@
+package com.kandarp.salon.shared.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserUpdatedEventDto {
+	private String userId;
+	private String firstName;
+	private String lastName;
+	private String email;
+}
@@ -0,0 +1,21 @@
+package com.kandarp.salon.user.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class KeycloakCallConfig {
+
+	/**
+	 * Runs independent Keycloak admin calls concurrently on virtual threads.
+	 * The admin client authenticates with its own client credentials, so no
+	 * caller context has to be carried over.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	ExecutorService keycloakCallExecutor() {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
+}
@@ -0,0 +1,45 @@
+package com.kandarp.salon.user.config;
+
+import java.util.regex.Pattern;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+/**
+ * Times every call the admin client makes to Keycloak, token requests
+ * included, as keycloak.client.requests tagged with method, path and status.
+ * User ids in the path are replaced by {id} to keep the number of series
+ * bounded. Calls that fail without a response are not recorded.
+ */
+class KeycloakCallMetricsFilter implements ClientRequestFilter, ClientResponseFilter {
+
+	private static final String START_PROPERTY = KeycloakCallMetricsFilter.class.getName() + ".start";
+	private static final Pattern ID_SEGMENT = Pattern
+			.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+	private final MeterRegistry meterRegistry;
+
+	KeycloakCallMetricsFilter(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void filter(ClientRequestContext requestContext) {
+		requestContext.setProperty(START_PROPERTY, Timer.start(meterRegistry));
+	}
+
+	@Override
+	public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+		if (!(requestContext.getProperty(START_PROPERTY) instanceof Timer.Sample sample)) {
+			return;
+		}
+		sample.stop(Timer.builder("keycloak.client.requests").description("Calls made to the Keycloak admin API")
+				.tag("method", requestContext.getMethod())
+				.tag("path", ID_SEGMENT.matcher(requestContext.getUri().getPath()).replaceAll("{id}"))
+				.tag("status", String.valueOf(responseContext.getStatus())).register(meterRegistry));
+	}
+}
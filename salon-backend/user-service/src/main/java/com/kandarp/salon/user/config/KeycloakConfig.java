@@ -1,5 +1,13 @@
 package com.kandarp.salon.user.config;
 
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient43Engine;
 import org.keycloak.OAuth2Constants;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.KeycloakBuilder;
@@ -7,16 +15,56 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.ws.rs.client.ClientBuilder;
+
 @Configuration
 @EnableConfigurationProperties(KeycloakProperties.class)
 public class KeycloakConfig {
 
+	/**
+	 * Connections to Keycloak, shared by every admin call and token request.
+	 * Leased, available and pending connections are exported as
+	 * httpcomponents.httpclient.pool.* metrics tagged httpclient=keycloak.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	PoolingHttpClientConnectionManager keycloakConnectionManager(KeycloakProperties keycloakProperties,
+			MeterRegistry meterRegistry) {
+		KeycloakProperties.Pool pool = keycloakProperties.getPool();
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		// All connections go to the one Keycloak host
+		connectionManager.setMaxTotal(pool.getMaxConnections());
+		connectionManager.setDefaultMaxPerRoute(pool.getMaxConnections());
+		connectionManager.setValidateAfterInactivity((int) pool.getIdleTimeout().toMillis());
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "keycloak").bindTo(meterRegistry);
+		return connectionManager;
+	}
+
 	@Bean
-	Keycloak keycloak(KeycloakProperties keycloakProperties) {
-		return KeycloakBuilder.builder().serverUrl(keycloakProperties.getServerUrl())
+	Keycloak keycloak(KeycloakProperties keycloakProperties,
+			PoolingHttpClientConnectionManager keycloakConnectionManager, MeterRegistry meterRegistry) {
+		KeycloakProperties.Pool pool = keycloakProperties.getPool();
+		HttpClient httpClient = HttpClients.custom().setConnectionManager(keycloakConnectionManager)
+				.setConnectionManagerShared(true)
+				.evictIdleConnections(pool.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) pool.getConnectTimeout().toMillis())
+						.setSocketTimeout((int) pool.getReadTimeout().toMillis())
+						.setConnectionRequestTimeout((int) pool.getAcquireTimeout().toMillis()).build())
+				.build();
+
+		ResteasyClientBuilder clientBuilder = (ResteasyClientBuilder) ClientBuilder.newBuilder();
+		clientBuilder.httpEngine(new ApacheHttpClient43Engine(httpClient, true))
+				.register(new KeycloakCallMetricsFilter(meterRegistry));
+
+		Keycloak keycloak = KeycloakBuilder.builder().serverUrl(keycloakProperties.getServerUrl())
 				.realm(keycloakProperties.getRealm()).grantType(OAuth2Constants.CLIENT_CREDENTIALS)
 				.clientId(keycloakProperties.getClientId())
 				.clientSecret(keycloakProperties.getCredentials().getSecret())
+				.resteasyClient(clientBuilder.build())
 				.build();
+		keycloak.tokenManager().setMinTokenValidity(keycloakProperties.getToken().getMinValidity().toSeconds());
+		return keycloak;
 	}
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.kandarp.salon.user.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import lombok.Getter;
@@ -15,6 +17,9 @@ public class KeycloakProperties {
     private String realm;
     private String clientId;
     private Credentials credentials;
+    private Pool pool = new Pool();
+    private Token token = new Token();
+    private Duration roleCacheTtl = Duration.ofMinutes(10);
 
     // Getters and Setters
     public String getServerUrl() {
@@ -49,9 +54,56 @@ public class KeycloakProperties {
         this.credentials = credentials;
     }
 
+    public Pool getPool() {
+        return pool;
+    }
+
+    public void setPool(Pool pool) {
+        this.pool = pool;
+    }
+
+    public Token getToken() {
+        return token;
+    }
+
+    public void setToken(Token token) {
+        this.token = token;
+    }
+
+    public Duration getRoleCacheTtl() {
+        return roleCacheTtl;
+    }
+
+    public void setRoleCacheTtl(Duration roleCacheTtl) {
+        this.roleCacheTtl = roleCacheTtl;
+    }
+
     @Getter
     @Setter
     public static class Credentials {
         private String secret;
     }
+
+    /**
+     * HTTP connection pool of the admin client.
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxConnections = 50;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+        private Duration idleTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Background refresh of the admin client's access token.
+     */
+    @Getter
+    @Setter
+    public static class Token {
+        private Duration minValidity = Duration.ofSeconds(60);
+        private Duration refreshInterval = Duration.ofSeconds(30);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.kandarp.salon.user.config;
+
+import org.keycloak.admin.client.Keycloak;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fetches a new admin access token in the background once the current one
+ * expires within keycloak.token.min-validity, so requests do not wait for a
+ * client-credentials round trip. The refresh interval must stay below the
+ * minimum validity for this to happen ahead of every expiry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KeycloakTokenRefresher {
+
+	private final Keycloak keycloak;
+
+	@Scheduled(fixedDelayString = "${keycloak.token.refresh-interval}")
+	public void refresh() {
+		try {
+			keycloak.tokenManager().getAccessToken();
+		} catch (RuntimeException e) {
+			log.warn("Refreshing the Keycloak admin token failed, retrying on the next run: {}", e.getMessage());
+		}
+	}
+}
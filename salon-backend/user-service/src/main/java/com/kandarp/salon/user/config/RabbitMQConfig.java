@@ -0,0 +1,22 @@
+package com.kandarp.salon.user.config;
+
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.kandarp.salon.shared.constant.Messaging;
+
+@Configuration
+public class RabbitMQConfig {
+
+	@Bean
+	Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
+		return new Jackson2JsonMessageConverter();
+	}
+
+	@Bean
+	DirectExchange userExchange() {
+		return new DirectExchange(Messaging.USER_EXCHANGE);
+	}
+}
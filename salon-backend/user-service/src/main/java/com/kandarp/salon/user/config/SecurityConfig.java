@@ -29,7 +29,7 @@ public class SecurityConfig {
 	SecurityFilterChain privateFilterChain(HttpSecurity http) throws Exception {
 
 		http.authorizeHttpRequests(customizer -> {
-			customizer.requestMatchers("/api/v1/users/signup","/api/v1/users/salon/signup","/user-service-doc/**").permitAll();
+			customizer.requestMatchers("/api/v1/users/signup","/api/v1/users/salon/signup","/api/v1/users/batch","/user-service-doc/**").permitAll();
 			
 			customizer.requestMatchers(HttpMethod.GET,"/api/v1/users/**").permitAll();
 
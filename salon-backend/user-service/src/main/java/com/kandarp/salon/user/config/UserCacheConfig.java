@@ -0,0 +1,33 @@
+package com.kandarp.salon.user.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kandarp.salon.shared.user.dto.UserDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+public class UserCacheConfig {
+
+	/**
+	 * Users by user id, loaded from the local user store and only fetched from
+	 * Keycloak when the store does not know them yet. Entries expire after the
+	 * TTL so that profile changes picked up by the user sync show up without an
+	 * explicit eviction. Hits, misses and evictions are exported as cache.*
+	 * metrics tagged cache=users.
+	 */
+	@Bean
+	Cache<String, UserDto> userCache(@Value("${user.cache.max-size}") long maxSize,
+			@Value("${user.cache.ttl}") Duration ttl, MeterRegistry meterRegistry) {
+		Cache<String, UserDto> cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats()
+				.build();
+		return CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+	}
+}
@@ -1,7 +1,14 @@
 package com.kandarp.salon.user.controller;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -9,14 +16,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.kandarp.salon.shared.user.constant.UserBatch;
 import com.kandarp.salon.shared.user.constant.UserRole;
 import com.kandarp.salon.shared.user.dto.UserCreationDto;
 import com.kandarp.salon.shared.user.dto.UserCreationResponseDto;
 import com.kandarp.salon.shared.user.dto.UserDto;
+import com.kandarp.salon.shared.user.dto.UserImportRequestDto;
+import com.kandarp.salon.shared.user.dto.UserImportResultDto;
 import com.kandarp.salon.user.service.UserService;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -43,11 +54,41 @@ public class UserController {
 		return new ResponseEntity<UserCreationResponseDto>(new UserCreationResponseDto(userId), HttpStatus.CREATED);
 	}
 	
+	@PostMapping("/import")
+	@PreAuthorize("hasAnyRole('SALON_OWNER', 'ADMIN')")
+	public ResponseEntity<List<UserImportResultDto>> importCustomerUsers(
+			@Valid @RequestBody UserImportRequestDto userImportRequestDto) {
+		List<UserImportResultDto> results = userService.importUsers(userImportRequestDto.getUsers());
+		return new ResponseEntity<List<UserImportResultDto>>(results, HttpStatus.OK);
+	}
+	
 	@GetMapping("/{userId}")
 	public ResponseEntity<UserDto> getUserByUserId(@PathVariable String userId) {
 		UserDto userDto = userService.getUserById(userId);
 		return new ResponseEntity<UserDto>(userDto, HttpStatus.OK);
 	}
 	
+	/**
+	 * Users with the given IDs; IDs without a user are left out and listed in
+	 * the {@value UserBatch#MISSING_IDS_HEADER} header. Anonymous callers only get users
+	 * this service already stores, so they cannot make it call Keycloak for
+	 * arbitrary IDs: a user created in Keycloak but not yet picked up by
+	 * UserProfileSync is missing for them until the next sync, while an
+	 * authenticated caller gets it fetched.
+	 */
+	@PostMapping("/batch")
+	public ResponseEntity<List<UserDto>> getUsersByUserIds(
+			@RequestBody @Size(max = UserBatch.MAX_SIZE) Set<String> userIds, @AuthenticationPrincipal Jwt jwt) {
+		List<UserDto> userDtos = userService.getUsersByIds(userIds, jwt != null);
+
+		Set<String> missingUserIds = new LinkedHashSet<>(userIds);
+		userDtos.forEach(userDto -> missingUserIds.remove(userDto.getUserId()));
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (!missingUserIds.isEmpty()) {
+			response.header(UserBatch.MISSING_IDS_HEADER, String.join(",", missingUserIds));
+		}
+		return response.body(userDtos);
+	}
+	
 	
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.kandarp.salon.user.entity;
+
+import java.time.LocalDateTime;
+
+import com.kandarp.salon.shared.user.constant.Gender;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Local copy of a Keycloak user's profile. Rows are written when a user signs
+ * up and refreshed by the periodic sync, so profile reads never go to
+ * Keycloak. Keycloak stays the source of truth.
+ */
+@Entity
+@Table(name = "user_profiles", indexes = { @Index(name = "idx_user_profiles_synced_at", columnList = "synced_at") })
+public class UserProfile {
+
+	@Id
+	@Column(length = 36)
+	private String userId;
+
+	private String userName;
+
+	private String email;
+
+	private String firstName;
+
+	private String lastName;
+
+	@Enumerated(EnumType.STRING)
+	private Gender gender;
+
+	/**
+	 * Start of the last sync that saw the user in Keycloak.
+	 */
+	@Column(nullable = false)
+	private LocalDateTime syncedAt;
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public void setUserId(String userId) {
+		this.userId = userId;
+	}
+
+	public String getUserName() {
+		return userName;
+	}
+
+	public void setUserName(String userName) {
+		this.userName = userName;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public void setLastName(String lastName) {
+		this.lastName = lastName;
+	}
+
+	public Gender getGender() {
+		return gender;
+	}
+
+	public void setGender(Gender gender) {
+		this.gender = gender;
+	}
+
+	public LocalDateTime getSyncedAt() {
+		return syncedAt;
+	}
+
+	public void setSyncedAt(LocalDateTime syncedAt) {
+		this.syncedAt = syncedAt;
+	}
+}
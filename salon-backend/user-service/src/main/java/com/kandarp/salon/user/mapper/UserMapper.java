@@ -10,6 +10,7 @@ import org.mapstruct.factory.Mappers;
 
 import com.kandarp.salon.shared.user.constant.Gender;
 import com.kandarp.salon.shared.user.dto.UserDto;
+import com.kandarp.salon.user.entity.UserProfile;
 
 @Mapper
 public interface UserMapper {
@@ -21,6 +22,11 @@ public interface UserMapper {
     @Mapping(source = "attributes.gender", target = "gender", qualifiedByName = "mapGender")
     UserDto userRepresentationToUserDto(UserRepresentation userRepresentation);
 
+    UserDto userProfileToUserDto(UserProfile userProfile);
+
+    @Mapping(target = "syncedAt", ignore = true)
+    UserProfile userDtoToUserProfile(UserDto userDto);
+
     @Named("mapGender")
     default Gender mapGender(List<String> genderList) {
         if (genderList == null || genderList.isEmpty()) {
@@ -0,0 +1,25 @@
+package com.kandarp.salon.user.messaging;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kandarp.salon.shared.constant.Messaging;
+import com.kandarp.salon.shared.user.dto.UserDto;
+import com.kandarp.salon.shared.user.dto.UserUpdatedEventDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventProducer {
+
+	private final RabbitTemplate rabbitTemplate;
+
+	public void sendUserUpdatedEvent(UserDto user) {
+		log.debug("Sending user updated event for user {}", user.getUserId());
+		rabbitTemplate.convertAndSend(Messaging.USER_EXCHANGE, Messaging.USER_EXCHANGE_UPDATED_ROUTING_KEY,
+				new UserUpdatedEventDto(user.getUserId(), user.getFirstName(), user.getLastName(), user.getEmail()));
+	}
+}
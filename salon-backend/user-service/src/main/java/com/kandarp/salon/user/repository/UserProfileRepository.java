@@ -0,0 +1,26 @@
+package com.kandarp.salon.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kandarp.salon.user.entity.UserProfile;
+
+public interface UserProfileRepository extends JpaRepository<UserProfile, String> {
+
+	@Modifying
+	@Query("update UserProfile u set u.syncedAt = :syncedAt where u.userId in :userIds")
+	void markSynced(@Param("userIds") Collection<String> userIds, @Param("syncedAt") LocalDateTime syncedAt);
+
+	/**
+	 * Deletes users that a complete sync started at {@code syncedBefore} no
+	 * longer found in Keycloak.
+	 */
+	@Modifying
+	@Query("delete from UserProfile u where u.syncedAt < :syncedBefore")
+	int deleteSyncedBefore(@Param("syncedBefore") LocalDateTime syncedBefore);
+}
@@ -0,0 +1,51 @@
+package com.kandarp.salon.user.service;
+
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kandarp.salon.shared.user.constant.UserRole;
+import com.kandarp.salon.user.config.KeycloakProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Realm roles by name. Sign-ups assign one of a handful of roles that rarely
+ * change, so each is fetched from Keycloak once per TTL instead of once per
+ * created user. The application roles are prefetched at startup so that the
+ * first sign-ups do not pay for the lookup either.
+ */
+@Component
+@Slf4j
+public class RealmRoleCache {
+
+	private final Keycloak keycloak;
+	private final KeycloakProperties keycloakProperties;
+	private final Cache<String, RoleRepresentation> roles;
+
+	public RealmRoleCache(Keycloak keycloak, KeycloakProperties keycloakProperties) {
+		this.keycloak = keycloak;
+		this.keycloakProperties = keycloakProperties;
+		this.roles = Caffeine.newBuilder().expireAfterWrite(keycloakProperties.getRoleCacheTtl()).build();
+	}
+
+	public RoleRepresentation get(String role) {
+		return roles.get(role,
+				name -> keycloak.realm(keycloakProperties.getRealm()).roles().get(name).toRepresentation());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void prefetch() {
+		for (UserRole role : UserRole.values()) {
+			try {
+				get(role.name());
+			} catch (RuntimeException e) {
+				log.warn("Could not prefetch realm role {}: {}", role, e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.kandarp.salon.user.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kandarp.salon.shared.user.dto.UserDto;
+import com.kandarp.salon.user.entity.UserProfile;
+import com.kandarp.salon.user.mapper.UserMapper;
+import com.kandarp.salon.user.messaging.UserEventProducer;
+import com.kandarp.salon.user.repository.UserProfileRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and writes the local user_profiles projection of Keycloak users.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileStore {
+
+	private final UserProfileRepository userProfileRepository;
+	private final UserEventProducer userEventProducer;
+
+	@Transactional(readOnly = true)
+	public Optional<UserDto> find(String userId) {
+		return userProfileRepository.findById(userId).map(UserMapper.MAPPER::userProfileToUserDto);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<String, UserDto> findAll(Collection<String> userIds) {
+		return userProfileRepository.findAllById(userIds).stream().map(UserMapper.MAPPER::userProfileToUserDto)
+				.collect(Collectors.toMap(UserDto::getUserId, Function.identity()));
+	}
+
+	@Transactional
+	public UserDto save(UserDto user) {
+		userProfileRepository.save(toProfile(user, LocalDateTime.now()));
+		return user;
+	}
+
+	/**
+	 * Applies one page of Keycloak users. Only new or changed users are
+	 * written in full; the others are just marked as seen by this sync.
+	 * Returns the ids of the users that were written.
+	 * <p>
+	 * A user-updated event is sent for every known user whose name or email
+	 * changed. It is sent before the page commits, so if it fails the page is
+	 * rolled back and the change is found again by the next sync.
+	 */
+	@Transactional
+	public List<String> sync(List<UserDto> users, LocalDateTime syncedAt) {
+		Map<String, UserProfile> existing = userProfileRepository
+				.findAllById(users.stream().map(UserDto::getUserId).toList()).stream()
+				.collect(Collectors.toMap(UserProfile::getUserId, Function.identity()));
+
+		List<UserProfile> changed = new ArrayList<>();
+		List<String> unchangedIds = new ArrayList<>();
+		for (UserDto user : users) {
+			UserProfile profile = existing.get(user.getUserId());
+			if (profile != null && isSameProfile(profile, user)) {
+				unchangedIds.add(user.getUserId());
+			} else {
+				changed.add(toProfile(user, syncedAt));
+				if (profile != null && isContactChanged(profile, user)) {
+					userEventProducer.sendUserUpdatedEvent(user);
+				}
+			}
+		}
+
+		if (!unchangedIds.isEmpty()) {
+			userProfileRepository.markSynced(unchangedIds, syncedAt);
+		}
+		userProfileRepository.saveAll(changed);
+		return changed.stream().map(UserProfile::getUserId).toList();
+	}
+
+	@Transactional
+	public int deleteSyncedBefore(LocalDateTime syncedBefore) {
+		return userProfileRepository.deleteSyncedBefore(syncedBefore);
+	}
+
+	private static UserProfile toProfile(UserDto user, LocalDateTime syncedAt) {
+		UserProfile profile = UserMapper.MAPPER.userDtoToUserProfile(user);
+		profile.setSyncedAt(syncedAt);
+		return profile;
+	}
+
+	private static boolean isContactChanged(UserProfile profile, UserDto user) {
+		return !Objects.equals(profile.getEmail(), user.getEmail())
+				|| !Objects.equals(profile.getFirstName(), user.getFirstName())
+				|| !Objects.equals(profile.getLastName(), user.getLastName());
+	}
+
+	private static boolean isSameProfile(UserProfile profile, UserDto user) {
+		return Objects.equals(profile.getUserName(), user.getUserName())
+				&& Objects.equals(profile.getEmail(), user.getEmail())
+				&& Objects.equals(profile.getFirstName(), user.getFirstName())
+				&& Objects.equals(profile.getLastName(), user.getLastName())
+				&& profile.getGender() == user.getGender();
+	}
+}
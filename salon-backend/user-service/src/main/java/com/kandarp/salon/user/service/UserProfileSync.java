@@ -0,0 +1,69 @@
+package com.kandarp.salon.user.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kandarp.salon.shared.user.dto.UserDto;
+import com.kandarp.salon.user.config.KeycloakProperties;
+import com.kandarp.salon.user.mapper.UserMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the local user store in line with Keycloak by paging through the
+ * realm's users. Only new or changed users are written, and their cache
+ * entries are dropped. A user is deleted locally once two complete syncs in
+ * a row did not see it, so a user skipped because the pages shifted during
+ * one sync is not lost.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileSync {
+
+	private final Keycloak keycloak;
+	private final KeycloakProperties keycloakProperties;
+	private final UserProfileStore userProfileStore;
+	private final Cache<String, UserDto> userCache;
+
+	@Value("${user.sync.page-size}")
+	private int pageSize;
+
+	private LocalDateTime previousSyncStart;
+
+	@Scheduled(fixedDelayString = "${user.sync.interval}")
+	public void sync() {
+		LocalDateTime startedAt = LocalDateTime.now();
+		UsersResource usersResource = keycloak.realm(keycloakProperties.getRealm()).users();
+
+		int seen = 0;
+		int changed = 0;
+		try {
+			List<UserRepresentation> page;
+			do {
+				page = usersResource.list(seen, pageSize);
+				List<String> changedIds = userProfileStore.sync(
+						page.stream().map(UserMapper.MAPPER::userRepresentationToUserDto).toList(), startedAt);
+				userCache.invalidateAll(changedIds);
+				changed += changedIds.size();
+				seen += page.size();
+			} while (page.size() == pageSize);
+		} catch (RuntimeException e) {
+			log.warn("User sync failed after {} users, retrying on the next run: {}", seen, e.getMessage());
+			return;
+		}
+
+		int removed = previousSyncStart == null ? 0 : userProfileStore.deleteSyncedBefore(previousSyncStart);
+		previousSyncStart = startedAt;
+		log.info("Synced {} users from Keycloak: {} written, {} removed", seen, changed, removed);
+	}
+}
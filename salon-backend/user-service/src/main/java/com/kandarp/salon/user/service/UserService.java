@@ -1,8 +1,16 @@
 package com.kandarp.salon.user.service;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.resource.RealmResource;
@@ -11,10 +19,15 @@ import org.keycloak.admin.client.resource.UsersResource;
 import org.keycloak.representations.idm.CredentialRepresentation;
 import org.keycloak.representations.idm.RoleRepresentation;
 import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kandarp.salon.shared.user.constant.UserRole;
+import com.kandarp.salon.shared.user.dto.UserCreationDto;
 import com.kandarp.salon.shared.user.dto.UserDto;
+import com.kandarp.salon.shared.user.dto.UserImportResultDto;
 import com.kandarp.salon.user.config.KeycloakProperties;
 import com.kandarp.salon.user.mapper.UserMapper;
 
@@ -34,39 +47,140 @@ public class UserService {
 
 	private final Keycloak keycloak;
 	private final KeycloakProperties keycloakProperties;
+	private final Cache<String, UserDto> userCache;
+	private final UserProfileStore userProfileStore;
+	private final RealmRoleCache realmRoleCache;
+	private final ExecutorService keycloakCallExecutor;
+
+	@Value("${user.import.concurrency}")
+	private int importConcurrency;
 
 	public String createUser(String firstName, String lastName, String username, String password, String email,
 			String role, String gender) {
-		String userId = null;
-		try {
+		return createUser(firstName, lastName, username, password, email, role, gender, false);
+	}
 
-			UserRepresentation user = buildUserRepresentation(firstName, lastName, username, email, password, gender);
-			RealmResource realmResource = keycloak.realm(keycloakProperties.getRealm());
-			UsersResource usersResource = realmResource.users();
+	/**
+	 * Creates the user in Keycloak and assigns the realm role. The role is
+	 * looked up while the user is being created, so a sign-up costs two
+	 * sequential admin calls instead of three even when the role is not cached.
+	 * If the role cannot be assigned the user is deleted again.
+	 */
+	public String createUser(String firstName, String lastName, String username, String password, String email,
+			String role, String gender, boolean temporaryPassword) {
+		UserRepresentation user = buildUserRepresentation(firstName, lastName, username, email, password, gender,
+				temporaryPassword);
+		RealmResource realmResource = keycloak.realm(keycloakProperties.getRealm());
+		UsersResource usersResource = realmResource.users();
 
-			Response response = usersResource.create(user);
-			int status = response.getStatus();
-			handleUserCreationResponse(status);
+		CompletableFuture<RoleRepresentation> roleRepresentation = CompletableFuture
+				.supplyAsync(() -> realmRoleCache.get(role), keycloakCallExecutor);
 
+		String userId;
+		try (Response response = usersResource.create(user)) {
+			handleUserCreationResponse(response.getStatus());
 			userId = extractUserId(response);
-			try {
-				assignRoleToUser(realmResource, username, role, userId);
-				log.info("Successfully created user: {}", username);
-			} catch (WebApplicationException e) {
-				log.warn("Role assignment failed for user: {}. Reverting user creation.", username);
-				usersResource.get(userId).remove();
-				userId = null;
-				log.info("User {} deleted due to role assignment failure.", username);
-				throw e;
-			}
-		} catch (Exception e) {
-			throw e;
 		}
 
+		try {
+			assignRoleToUser(realmResource, username, role, roleRepresentation, userId);
+			log.info("Successfully created user: {}", username);
+		} catch (WebApplicationException e) {
+			log.warn("Role assignment failed for user: {}. Reverting user creation.", username);
+			usersResource.get(userId).remove();
+			log.info("User {} deleted due to role assignment failure.", username);
+			throw e;
+		}
+		storeCreatedUser(user, userId);
 		return userId;
 	}
 
+	/**
+	 * Creates customers in parallel, at most {@code user.import.concurrency} at
+	 * a time so that an import does not take over the Keycloak connection pool.
+	 * Every user is attempted and reported on its own; imported users have to
+	 * change their password on first login.
+	 */
+	public List<UserImportResultDto> importUsers(List<UserCreationDto> users) {
+		Semaphore permits = new Semaphore(importConcurrency);
+		List<CompletableFuture<UserImportResultDto>> results = users.stream()
+				.map(user -> CompletableFuture.supplyAsync(() -> {
+					permits.acquireUninterruptibly();
+					try {
+						return importUser(user);
+					} finally {
+						permits.release();
+					}
+				}, keycloakCallExecutor)).toList();
+
+		List<UserImportResultDto> imported = results.stream().map(CompletableFuture::join).toList();
+		log.info("Imported {} of {} users", imported.stream().filter(UserImportResultDto::isCreated).count(),
+				users.size());
+		return imported;
+	}
+
+	private UserImportResultDto importUser(UserCreationDto user) {
+		try {
+			String userId = createUser(user.getFirstName(), user.getLastName(), user.getUserName(), user.getPassword(),
+					user.getEmail(), UserRole.CUSTOMER.name(), user.getGender().getValue(), true);
+			return new UserImportResultDto(user.getUserName(), userId, true, null);
+		} catch (RuntimeException e) {
+			log.warn("Could not import user {}: {}", user.getUserName(), e.getMessage());
+			return new UserImportResultDto(user.getUserName(), null, false, e.getMessage());
+		}
+	}
+
 	public UserDto getUserById(String userId) {
+		return userCache.get(userId, this::loadUser);
+	}
+
+	/**
+	 * Resolves many users in one call. Cached users are served from memory and
+	 * the misses from the local user store with one query. Users the store does
+	 * not know yet are fetched from Keycloak only if {@code fetchMissing} is
+	 * set, otherwise they wait for the next sync. Unknown IDs are skipped
+	 * instead of failing the whole batch.
+	 */
+	public List<UserDto> getUsersByIds(Collection<String> userIds, boolean fetchMissing) {
+		Map<String, UserDto> users = userCache.getAll(userIds,
+				fetchMissing ? this::loadUsers : ids -> userProfileStore.findAll(List.copyOf(ids)));
+		return userIds.stream().map(users::get).filter(Objects::nonNull).toList();
+	}
+
+	/**
+	 * Adds a new user to the local store. The user already exists in Keycloak,
+	 * so a failure here only delays the user until the next sync.
+	 */
+	private void storeCreatedUser(UserRepresentation user, String userId) {
+		try {
+			UserDto userDto = UserMapper.MAPPER.userRepresentationToUserDto(user);
+			userDto.setUserId(userId);
+			userProfileStore.save(userDto);
+		} catch (RuntimeException e) {
+			log.warn("Could not store user {} locally, the next sync will add it: {}", userId, e.getMessage());
+		}
+	}
+
+	private UserDto loadUser(String userId) {
+		return userProfileStore.find(userId).orElseGet(() -> userProfileStore.save(fetchUser(userId)));
+	}
+
+	private Map<String, UserDto> loadUsers(Set<? extends String> userIds) {
+		Map<String, UserDto> users = new HashMap<>(userProfileStore.findAll(List.copyOf(userIds)));
+		for (String userId : userIds) {
+			if (users.containsKey(userId)) {
+				continue;
+			}
+			try {
+				users.put(userId, userProfileStore.save(fetchUser(userId)));
+			} catch (NotFoundException e) {
+				log.warn("User {} not found, skipping it in batch lookup", userId);
+			}
+		}
+		return users;
+	}
+
+	private UserDto fetchUser(String userId) {
 		try {
 			RealmResource realmResource = keycloak.realm(keycloakProperties.getRealm());
 			UsersResource usersResource = realmResource.users();
@@ -83,7 +197,7 @@ public class UserService {
 	}
 
 	private UserRepresentation buildUserRepresentation(String firstName, String lastName, String username, String email,
-			String password, String gender) {
+			String password, String gender, boolean temporaryPassword) {
 		UserRepresentation user = new UserRepresentation();
 		user.setUsername(username);
 		user.setFirstName(firstName);
@@ -98,7 +212,7 @@ public class UserService {
 		CredentialRepresentation credential = new CredentialRepresentation();
 		credential.setType(CredentialRepresentation.PASSWORD);
 		credential.setValue(password);
-		credential.setTemporary(false);
+		credential.setTemporary(temporaryPassword);
 		user.setCredentials(Collections.singletonList(credential));
 
 		return user;
@@ -108,9 +222,10 @@ public class UserService {
 		return response.getLocation().getPath().replaceAll(".*/", "");
 	}
 
-	private void assignRoleToUser(RealmResource realmResource, String username, String role, String userId) {
+	private void assignRoleToUser(RealmResource realmResource, String username, String role,
+			CompletableFuture<RoleRepresentation> roleLookup, String userId) {
 		try {
-			RoleRepresentation roleRepresentation = realmResource.roles().get(role).toRepresentation();
+			RoleRepresentation roleRepresentation = await(roleLookup);
 			RoleScopeResource roleScopeResource = realmResource.users().get(userId).roles().realmLevel();
 			roleScopeResource.add(Collections.singletonList(roleRepresentation));
 		} catch (ForbiddenException e) {
@@ -125,6 +240,17 @@ public class UserService {
 		}
 	}
 
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
 	private void handleUserCreationResponse(int statusCode) {
 		switch (statusCode) {
 		case 201 -> {
@@ -20,6 +20,7 @@ export interface SalonCreationDto {
   salonName: string;
   openTime: Date | null;
   closeTime: Date | null;
+  capacity?: number;
   address: string;
   landmark?: string;
   city: string;
@@ -35,6 +36,7 @@ export interface SalonRequestDto {
   active: boolean;
   openTime: string;
   closeTime: string;
+  capacity?: number;
   address: string;
   landmark?: string;
   city: string;
@@ -50,6 +52,7 @@ export interface SalonResponseDto {
   active: boolean;
   openTime: string;
   closeTime: string;
+  capacity: number;
   address: string;
   landmark?: string;
   city: string;
@@ -99,6 +102,30 @@ export interface BookingRequestDto {
   paymentMethod: 'STRIPE';
 }
 
+export interface BookingSalonSummaryDto {
+  salonId: number;
+  salonName: string;
+  address: string;
+  city: string;
+  state: string;
+  zipcode: string;
+  contactNumber: string;
+}
+
+export interface BookingCustomerSummaryDto {
+  userId: string;
+  firstName: string;
+  lastName: string;
+  email: string;
+}
+
+export interface BookingServiceSummaryDto {
+  id: number;
+  name: string;
+  price: number;
+  duration: number;
+}
+
 export interface BookingResponseDto {
   id: number;
   salonId: number;
@@ -106,11 +133,11 @@ export interface BookingResponseDto {
   startTime: string;
   endTime: string;
   serviceIds: number[];
-  status: 'PENDING' | 'CONFIRMED' | 'CANCELLED';
+  status: 'PENDING' | 'CONFIRMED' | 'CANCELLED' | 'EXPIRED';
   totalPrice: number;
-  salon: SalonResponseDto;
-  customer: UserDto;
-  services: ServiceOfferingResponseDto[];
+  salon: BookingSalonSummaryDto;
+  customer: BookingCustomerSummaryDto;
+  services: BookingServiceSummaryDto[];
 }
 
 export interface PaymentLinkResponseDto {